@@ -0,0 +1,55 @@
+package wooteco.subway.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.Age;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.DistanceFare;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FareBenchmark {
+    @Param({"3", "8", "15", "30", "70"})
+    private int age;
+
+    @Param({"5", "30", "80"})
+    private double distance;
+
+    private Path path;
+    private Age passengerAge;
+
+    @Setup
+    public void setUp() {
+        List<Station> stations = List.of(new Station(1L, "출발역"), new Station(2L, "도착역"));
+        path = new Path(stations, Distance.fromKilometer(distance), new Fare(500));
+        passengerAge = new Age(age);
+    }
+
+    @Benchmark
+    public Fare calculateFare() {
+        return path.calculateFare(passengerAge);
+    }
+
+    @Benchmark
+    public int calculateDistanceFare() {
+        return DistanceFare.calculateFare(distance);
+    }
+}
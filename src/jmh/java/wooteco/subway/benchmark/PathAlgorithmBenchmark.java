@@ -0,0 +1,78 @@
+package wooteco.subway.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.PathAlgorithm;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.support.PathAlgorithmType;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathAlgorithmBenchmark {
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"100", "1000", "10000", "50000"})
+    private int stationCount;
+
+    @Param({"JGRAPHT", "COMPACT", "BIDIRECTIONAL", "CHAIN_COMPRESSED"})
+    private PathAlgorithmType algorithm;
+
+    private Map<Section, Fare> edges;
+    private PathAlgorithm pathAlgorithm;
+    private Station[] sources;
+    private Station[] targets;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SyntheticNetwork network = SyntheticNetwork.of(stationCount, 42);
+        edges = network.getEdges();
+        pathAlgorithm = algorithm.create(edges);
+        sources = network.randomStations(QUERY_COUNT, 1);
+        targets = network.randomStations(QUERY_COUNT, 2);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            if (sources[i].equals(targets[i])) {
+                targets[i] = targets[(i + 1) % QUERY_COUNT];
+            }
+        }
+    }
+
+    @Benchmark
+    public PathAlgorithm build() {
+        return algorithm.create(edges);
+    }
+
+    @Benchmark
+    public Path getPath() {
+        int index = nextIndex();
+        return pathAlgorithm.getPath(sources[index], targets[index]);
+    }
+
+    @Benchmark
+    public Path getCheapestPath() {
+        int index = nextIndex();
+        return pathAlgorithm.getCheapestPath(sources[index], targets[index]);
+    }
+
+    private int nextIndex() {
+        return cursor++ & (QUERY_COUNT - 1);
+    }
+}
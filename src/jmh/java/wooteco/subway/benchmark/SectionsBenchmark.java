@@ -0,0 +1,80 @@
+package wooteco.subway.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.section.Sections;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SectionsBenchmark {
+    @Param({"10", "100", "1000"})
+    private int lineLength;
+
+    private Sections sections;
+    private Station[] stations;
+    private Station extraStation;
+
+    @Setup
+    public void setUp() {
+        stations = new Station[lineLength + 1];
+        for (int i = 0; i <= lineLength; i++) {
+            stations[i] = new Station(i + 1L, "역" + (i + 1));
+        }
+        List<Section> rawSections = new ArrayList<>();
+        for (int i = 0; i < lineLength; i++) {
+            rawSections.add(new Section(i + 1L, stations[i], stations[i + 1], Distance.fromKilometer(10)));
+        }
+        sections = new Sections(rawSections);
+        extraStation = new Station(lineLength + 2L, "추가역");
+    }
+
+    @Benchmark
+    public Section addAndDeleteFirst() {
+        sections.add(new Section(extraStation, stations[0], Distance.fromKilometer(1)));
+        return sections.delete(extraStation);
+    }
+
+    @Benchmark
+    public Section addAndDeleteMiddle() {
+        Station middle = stations[lineLength / 2];
+        sections.add(new Section(middle, extraStation, Distance.fromKilometer(1)));
+        return sections.delete(extraStation);
+    }
+
+    @Benchmark
+    public Section addAndDeleteLast() {
+        sections.add(new Section(stations[lineLength], extraStation, Distance.fromKilometer(1)));
+        return sections.delete(extraStation);
+    }
+
+    @Benchmark
+    public Sections splitMiddleRepeatedly() {
+        Station beforeLast = stations[lineLength - 1];
+        Sections splitSections = new Sections(List.of(
+                new Section(stations[0], beforeLast, Distance.fromKilometer(lineLength * 10)),
+                new Section(beforeLast, stations[lineLength], Distance.fromKilometer(1))));
+        for (int i = 1; i < lineLength - 1; i++) {
+            splitSections.add(new Section(stations[i - 1], stations[i], Distance.fromKilometer(1)));
+        }
+        return splitSections;
+    }
+}
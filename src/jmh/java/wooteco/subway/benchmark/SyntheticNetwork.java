@@ -0,0 +1,75 @@
+package wooteco.subway.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
+
+public class SyntheticNetwork {
+    private static final int LINE_LENGTH = 50;
+    private static final int[] EXTRA_FARES = {0, 0, 100, 300, 500, 900};
+
+    private final Station[] stations;
+    private final Map<Section, Fare> edges;
+
+    private SyntheticNetwork(Station[] stations, Map<Section, Fare> edges) {
+        this.stations = stations;
+        this.edges = edges;
+    }
+
+    public static SyntheticNetwork of(int stationCount, long seed) {
+        Random random = new Random(seed);
+        Station[] stations = new Station[stationCount];
+        for (int i = 0; i < stationCount; i++) {
+            stations[i] = new Station(i + 1L, "역" + (i + 1));
+        }
+
+        Map<Section, Fare> edges = new LinkedHashMap<>();
+        Fare lineFare = randomFare(random);
+        for (int i = 1; i < stationCount; i++) {
+            if (i % LINE_LENGTH == 0) {
+                lineFare = randomFare(random);
+                connect(edges, stations[random.nextInt(i)], stations[i], random, lineFare);
+                continue;
+            }
+            connect(edges, stations[i - 1], stations[i], random, lineFare);
+        }
+        for (int i = 0; i < stationCount / 10; i++) {
+            Station up = stations[random.nextInt(stationCount)];
+            Station down = stations[random.nextInt(stationCount)];
+            if (!up.equals(down)) {
+                connect(edges, up, down, random, randomFare(random));
+            }
+        }
+        return new SyntheticNetwork(stations, edges);
+    }
+
+    private static Fare randomFare(Random random) {
+        return new Fare(EXTRA_FARES[random.nextInt(EXTRA_FARES.length)]);
+    }
+
+    private static void connect(Map<Section, Fare> edges, Station up, Station down, Random random, Fare fare) {
+        Distance distance = Distance.fromKilometer(0.5 + random.nextInt(40) / 10.0);
+        edges.put(new Section(up, down, distance), fare);
+    }
+
+    public Station[] randomStations(int count, long seed) {
+        Random random = new Random(seed);
+        Station[] picked = new Station[count];
+        for (int i = 0; i < count; i++) {
+            picked[i] = stations[random.nextInt(stations.length)];
+        }
+        return picked;
+    }
+
+    public Station[] getStations() {
+        return stations;
+    }
+
+    public Map<Section, Fare> getEdges() {
+        return edges;
+    }
+}
@@ -0,0 +1,38 @@
+package wooteco.subway.support;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import wooteco.subway.benchmark.SyntheticNetwork;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ContractionHierarchyBenchmark {
+    @Param({"1000", "10000", "50000"})
+    private int stationCount;
+
+    private CompactGraph graph;
+
+    @Setup
+    public void setUp() {
+        graph = CompactGraph.from(SyntheticNetwork.of(stationCount, 42).getEdges());
+    }
+
+    @Benchmark
+    public ContractionHierarchy preprocess() {
+        return ContractionHierarchy.build(graph);
+    }
+}
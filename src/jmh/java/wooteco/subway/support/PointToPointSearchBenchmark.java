@@ -0,0 +1,110 @@
+package wooteco.subway.support;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import wooteco.subway.benchmark.SyntheticNetwork;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.Path;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointToPointSearchBenchmark {
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1000", "10000", "50000"})
+    private int stationCount;
+
+    private CompactGraph graph;
+    private ContractionHierarchy contractionHierarchy;
+    private int[] sources;
+    private int[] targets;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SyntheticNetwork network = SyntheticNetwork.of(stationCount, 42);
+        graph = CompactGraph.from(network.getEdges());
+        contractionHierarchy = ContractionHierarchy.build(graph);
+        sources = toVertices(network.randomStations(QUERY_COUNT, 1));
+        targets = toVertices(network.randomStations(QUERY_COUNT, 2));
+    }
+
+    private int[] toVertices(Station[] stations) {
+        int[] vertices = new int[stations.length];
+        for (int i = 0; i < stations.length; i++) {
+            vertices[i] = graph.indexOf(stations[i]);
+        }
+        return vertices;
+    }
+
+    @Benchmark
+    public double unidirectional(SettledNodes settledNodes) {
+        int index = nextIndex();
+        SearchBuffer buffer = SearchBuffer.acquire(graph.getVertexCount());
+        Dijkstra.search(graph, buffer, sources[index], targets[index]);
+        settledNodes.record();
+        return buffer.getDistance(targets[index]);
+    }
+
+    @Benchmark
+    public int bidirectional(SettledNodes settledNodes) {
+        int index = nextIndex();
+        SearchBuffer forward = SearchBuffer.acquire(graph.getVertexCount());
+        SearchBuffer backward = SearchBuffer.acquireReverse(graph.getVertexCount());
+        int meeting = Dijkstra.searchBidirectional(graph, forward, backward, sources[index], targets[index]);
+        settledNodes.record();
+        return meeting;
+    }
+
+    @Benchmark
+    public Path contractionHierarchy(SettledNodes settledNodes) {
+        int index = nextIndex();
+        Path path = contractionHierarchy.findPath(sources[index], targets[index]);
+        settledNodes.record();
+        return path;
+    }
+
+    private int nextIndex() {
+        return cursor++ & (QUERY_COUNT - 1);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SettledNodes {
+        public long settled;
+        public long queries;
+        private SearchCounter counter;
+        private long lastSettledCount;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            settled = 0;
+            queries = 0;
+            counter = SearchCounter.current();
+            lastSettledCount = counter.getSettledCount();
+        }
+
+        void record() {
+            long settledCount = counter.getSettledCount();
+            settled += settledCount - lastSettledCount;
+            lastSettledCount = settledCount;
+            queries++;
+        }
+    }
+}
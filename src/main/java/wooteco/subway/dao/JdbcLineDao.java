@@ -2,6 +2,8 @@ package wooteco.subway.dao;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -10,25 +12,38 @@ import javax.sql.DataSource;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
 import org.springframework.stereotype.Repository;
 
 import wooteco.subway.domain.Line;
-import wooteco.subway.domain.Station;
 import wooteco.subway.domain.path.Fare;
 import wooteco.subway.domain.section.Distance;
 import wooteco.subway.domain.section.Section;
 
 @Repository
 public class JdbcLineDao implements LineDao {
+    private static final String SELECT_LINES_WITH_SECTIONS = "SELECT "
+            + "l.id, l.name, l.color, l.extra_fare, "
+            + "sec.id section_id, sec.distance, "
+            + "sec.up_station_id, us.name up_station_name,"
+            + "sec.down_station_id, ds.name down_station_name "
+            + "FROM line AS l "
+            + "LEFT JOIN section AS sec ON sec.line_id = l.id "
+            + "LEFT JOIN station AS us ON sec.up_station_id = us.id "
+            + "LEFT JOIN station AS ds ON sec.down_station_id = ds.id ";
+
     private final SimpleJdbcInsert jdbcInsert;
     private final JdbcTemplate jdbcTemplate;
+    private final StationRegistry stationRegistry;
+    private final ResultSetExtractor<Map<Line, Fare>> linesExtractor = this::mapToLines;
 
-    public JdbcLineDao(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+    public JdbcLineDao(DataSource dataSource, JdbcTemplate jdbcTemplate, StationRegistry stationRegistry) {
         this.jdbcInsert = new SimpleJdbcInsert(dataSource)
                 .withTableName("line")
                 .usingGeneratedKeyColumns("id");
         this.jdbcTemplate = jdbcTemplate;
+        this.stationRegistry = stationRegistry;
     }
 
     @Override
@@ -48,18 +63,23 @@ public class JdbcLineDao implements LineDao {
 
     @Override
     public List<Line> findAll() {
-        final String sql = "SELECT id, name, color FROM line";
-        return jdbcTemplate.query(sql, this::mapToLine);
+        return new ArrayList<>(findAllWithExtraFare().keySet());
+    }
+
+    @Override
+    public Map<Line, Fare> findAllWithExtraFare() {
+        final String sql = SELECT_LINES_WITH_SECTIONS + "ORDER BY l.id, sec.index_num";
+        return jdbcTemplate.query(sql, linesExtractor);
     }
 
     @Override
     public Line findById(Long id) {
-        final String sql = "SELECT id, name, color FROM line WHERE id = ?";
-        try {
-            return jdbcTemplate.queryForObject(sql, this::mapToLine, id);
-        } catch (EmptyResultDataAccessException e) {
+        final String sql = SELECT_LINES_WITH_SECTIONS + "WHERE l.id = ? ORDER BY sec.index_num";
+        Map<Line, Fare> lines = jdbcTemplate.query(sql, linesExtractor, id);
+        if (Objects.isNull(lines) || lines.isEmpty()) {
             throw new IllegalStateException("조회하고자 하는 노선이 존재하지 않습니다.");
         }
+        return lines.keySet().iterator().next();
     }
 
     @Override
@@ -76,25 +96,26 @@ public class JdbcLineDao implements LineDao {
         }
     }
 
-    private Line mapToLine(ResultSet resultSet, int rowNum) throws SQLException {
-        return new Line(
-                resultSet.getLong("id"),
-                resultSet.getString("name"),
-                resultSet.getString("color"),
-                findSectionsById(resultSet.getLong("id"))
-        );
-    }
+    private Map<Line, Fare> mapToLines(ResultSet resultSet) throws SQLException {
+        Map<Long, LineRow> rows = new LinkedHashMap<>();
+        while (resultSet.next()) {
+            Long id = resultSet.getLong("id");
+            LineRow row = rows.get(id);
+            if (Objects.isNull(row)) {
+                row = new LineRow(id, resultSet.getString("name"), resultSet.getString("color"),
+                        new Fare(resultSet.getInt("extra_fare")));
+                rows.put(id, row);
+            }
+            if (Objects.nonNull(resultSet.getObject("section_id"))) {
+                row.sections.add(mapToSection(resultSet));
+            }
+        }
 
-    private List<Section> findSectionsById(Long id) {
-        String sql = "SELECT "
-                + "sec.id, sec.distance, "
-                + "sec.up_station_id, us.name up_station_name,"
-                + "sec.down_station_id, ds.name down_station_name "
-                + "FROM section AS sec "
-                + "JOIN station AS us ON sec.up_station_id = us.id "
-                + "JOIN station AS ds ON sec.down_station_id = ds.id "
-                + "WHERE line_id = ? ORDER BY index_num";
-        return jdbcTemplate.query(sql, (resultSet, rowNum) -> mapToSection(resultSet), id);
+        Map<Line, Fare> lines = new LinkedHashMap<>();
+        for (LineRow row : rows.values()) {
+            lines.put(new Line(row.id, row.name, row.color, row.sections), row.extraFare);
+        }
+        return lines;
     }
 
     private Section mapToSection(ResultSet resultSet) throws SQLException {
@@ -105,9 +126,9 @@ public class JdbcLineDao implements LineDao {
         String downStationName = resultSet.getString("down_station_name");
 
         return new Section(
-                resultSet.getLong("id"),
-                new Station(upStationId, upStationName),
-                new Station(downStationId, downStationName),
+                resultSet.getLong("section_id"),
+                stationRegistry.intern(upStationId, upStationName),
+                stationRegistry.intern(downStationId, downStationName),
                 Distance.fromKilometer(resultSet.getDouble("distance"))
         );
     }
@@ -141,4 +162,19 @@ public class JdbcLineDao implements LineDao {
             throw new IllegalStateException("삭제하고자 하는 노선이 존재하지 않습니다.");
         }
     }
+
+    private static class LineRow {
+        private final Long id;
+        private final String name;
+        private final String color;
+        private final Fare extraFare;
+        private final List<Section> sections = new ArrayList<>();
+
+        LineRow(Long id, String name, String color, Fare extraFare) {
+            this.id = id;
+            this.name = name;
+            this.color = color;
+            this.extraFare = extraFare;
+        }
+    }
 }
@@ -1,70 +1,155 @@
 package wooteco.subway.dao;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
 
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import wooteco.subway.domain.section.Distance;
 import wooteco.subway.domain.path.Fare;
 import wooteco.subway.domain.section.Section;
-import wooteco.subway.domain.Station;
 
 @Repository
 public class JdbcSectionDao implements SectionDao {
+    private static final int MAX_INSERT_ROWS = 500;
+
     private final SimpleJdbcInsert jdbcInsert;
     private final JdbcTemplate jdbcTemplate;
+    private final StationRegistry stationRegistry;
 
-    public JdbcSectionDao(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+    public JdbcSectionDao(DataSource dataSource, JdbcTemplate jdbcTemplate, StationRegistry stationRegistry) {
         this.jdbcInsert = new SimpleJdbcInsert(dataSource)
                 .withTableName("section")
                 .usingGeneratedKeyColumns("id");
         this.jdbcTemplate = jdbcTemplate;
+        this.stationRegistry = stationRegistry;
+    }
+
+    @Override
+    public Section save(Section section, Long lineId) {
+        return save(section, lineId, 0);
     }
 
     @Override
-    public void save(Section section, Long lineId) {
-        save(section, lineId, 0);
+    public List<Section> save(List<Section> sections, Long lineId) {
+        return save(List.of(), sections, lineId);
     }
 
     @Override
-    public void save(List<Section> sections, Long lineId) {
+    public List<Section> save(List<Section> loadedSections, List<Section> sections, Long lineId) {
+        Map<Long, Section> loadedById = new HashMap<>();
+        for (Section section : loadedSections) {
+            loadedById.put(section.getId(), section);
+        }
+        Map<Long, Long> currentKeys = findOrderingKeys(lineId);
+        long[] keys = OrderingKeys.assign(sections.stream()
+                .map(section -> Objects.isNull(section.getId()) ? null : currentKeys.get(section.getId()))
+                .toArray(Long[]::new));
+
+        List<Object[]> updates = new ArrayList<>();
+        List<Integer> insertIndexes = new ArrayList<>();
         for (int i = 0; i < sections.size(); i++) {
             Section section = sections.get(i);
-            update(section, lineId, i);
+            if (Objects.isNull(section.getId())) {
+                insertIndexes.add(i);
+            } else if (!Objects.equals(currentKeys.get(section.getId()), keys[i])
+                    || isChanged(loadedById.get(section.getId()), section)) {
+                updates.add(new Object[]{section.getUpStationId(), section.getDownStationId(), section.getDistance(),
+                        keys[i], section.getId()});
+            }
+        }
+        if (!updates.isEmpty()) {
+            String sql = "UPDATE section "
+                    + "SET up_station_id = ?, down_station_id = ?, distance = ?, index_num = ? "
+                    + "WHERE id = ?";
+            jdbcTemplate.batchUpdate(sql, updates);
+        }
+        return insert(sections, keys, insertIndexes, lineId);
+    }
+
+    private Map<Long, Long> findOrderingKeys(Long lineId) {
+        String sql = "SELECT id, index_num FROM section WHERE line_id = ?";
+        return jdbcTemplate.query(sql, resultSet -> {
+            Map<Long, Long> keys = new HashMap<>();
+            while (resultSet.next()) {
+                keys.put(resultSet.getLong("id"), resultSet.getLong("index_num"));
+            }
+            return keys;
+        }, lineId);
+    }
+
+    private boolean isChanged(Section loaded, Section section) {
+        if (Objects.isNull(loaded)) {
+            return true;
         }
+        return !Objects.equals(loaded.getUpStationId(), section.getUpStationId())
+                || !Objects.equals(loaded.getDownStationId(), section.getDownStationId())
+                || loaded.getDistance() != section.getDistance();
     }
 
-    private void update(Section section, Long lineId, int index) {
-        if (Objects.isNull(section.getId())) {
-            save(section, lineId, index);
-            return;
+    private List<Section> insert(List<Section> sections, long[] keys, List<Integer> insertIndexes, Long lineId) {
+        List<Section> savedSections = new ArrayList<>(sections);
+        for (int from = 0; from < insertIndexes.size(); from += MAX_INSERT_ROWS) {
+            int to = Math.min(from + MAX_INSERT_ROWS, insertIndexes.size());
+            List<Integer> indexes = insertIndexes.subList(from, to);
+            List<Long> ids = insert(sections, keys, indexes, lineId);
+            for (int i = 0; i < indexes.size(); i++) {
+                Section section = sections.get(indexes.get(i));
+                savedSections.set(indexes.get(i), new Section(ids.get(i), section.getUpStation(),
+                        section.getDownStation(), Distance.fromKilometer(section.getDistance())));
+            }
         }
-        String sql = "UPDATE section "
-                + "SET up_station_id = ?, down_station_id = ?, distance = ?, index_num = ? "
-                + "WHERE id = ?";
-        jdbcTemplate.update(sql,
-                section.getUpStationId(), section.getDownStationId(), section.getDistance(), index,
-                section.getId());
+        return savedSections;
     }
 
-    private void save(Section section, Long lineId, int index) {
+    private List<Long> insert(List<Section> sections, long[] keys, List<Integer> indexes, Long lineId) {
+        String sql = "INSERT INTO section (line_id, up_station_id, down_station_id, distance, index_num) VALUES "
+                + String.join(", ", Collections.nCopies(indexes.size(), "(?, ?, ?, ?, ?)"));
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, new String[]{"id"});
+            int parameterIndex = 1;
+            for (int index : indexes) {
+                Section section = sections.get(index);
+                statement.setLong(parameterIndex++, lineId);
+                statement.setLong(parameterIndex++, section.getUpStationId());
+                statement.setLong(parameterIndex++, section.getDownStationId());
+                statement.setDouble(parameterIndex++, section.getDistance());
+                statement.setLong(parameterIndex++, keys[index]);
+            }
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .collect(Collectors.toList());
+    }
+
+    private Section save(Section section, Long lineId, int index) {
         Map<String, Object> param = new HashMap<>();
         param.put("line_id", lineId);
         param.put("up_station_id", section.getUpStationId());
         param.put("down_station_id", section.getDownStationId());
         param.put("distance", section.getDistance());
         param.put("index_num", index);
-        jdbcInsert.executeAndReturnKey(param);
+        long id = jdbcInsert.executeAndReturnKey(param).longValue();
+        return new Section(id, section.getUpStation(), section.getDownStation(),
+                Distance.fromKilometer(section.getDistance()));
     }
 
     @Override
@@ -91,6 +176,26 @@ public class JdbcSectionDao implements SectionDao {
         return jdbcTemplate.query(sql, (resultSet, rowNum) -> mapToSection(resultSet));
     }
 
+    @Override
+    public Map<Section, Fare> findAllWithExtraFare() {
+        String sql = "SELECT "
+                + "sec.id, sec.distance, "
+                + "sec.up_station_id, us.name up_station_name,"
+                + "sec.down_station_id, ds.name down_station_name, "
+                + "l.extra_fare "
+                + "FROM section AS sec "
+                + "JOIN station AS us ON sec.up_station_id = us.id "
+                + "JOIN station AS ds ON sec.down_station_id = ds.id "
+                + "JOIN line AS l ON sec.line_id = l.id";
+        return jdbcTemplate.query(sql, resultSet -> {
+            Map<Section, Fare> edges = new LinkedHashMap<>();
+            while (resultSet.next()) {
+                edges.put(mapToSection(resultSet), new Fare(resultSet.getInt("extra_fare")));
+            }
+            return edges;
+        });
+    }
+
     @Override
     public Fare findExtraFareById(Long id) {
         String sql = "SELECT "
@@ -115,8 +220,8 @@ public class JdbcSectionDao implements SectionDao {
 
         return new Section(
                 resultSet.getLong("id"),
-                new Station(upStationId, upStationName),
-                new Station(downStationId, downStationName),
+                stationRegistry.intern(upStationId, upStationName),
+                stationRegistry.intern(downStationId, downStationName),
                 Distance.fromKilometer(resultSet.getDouble("distance"))
         );
     }
@@ -1,6 +1,10 @@
 package wooteco.subway.dao;
 
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import javax.sql.DataSource;
 
 import org.springframework.dao.DuplicateKeyException;
@@ -9,12 +13,15 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import wooteco.subway.domain.Station;
 
 @Repository
 public class JdbcStationDao implements StationDao {
+    private static final int MAX_INSERT_ROWS = 500;
 
     private final SimpleJdbcInsert jdbcInsert;
     private final JdbcTemplate jdbcTemplate;
@@ -37,6 +44,41 @@ public class JdbcStationDao implements StationDao {
         }
     }
 
+    @Override
+    public List<Station> saveAll(List<Station> stations) {
+        List<Station> savedStations = new ArrayList<>(stations.size());
+        try {
+            for (int from = 0; from < stations.size(); from += MAX_INSERT_ROWS) {
+                int to = Math.min(from + MAX_INSERT_ROWS, stations.size());
+                savedStations.addAll(insert(stations.subList(from, to)));
+            }
+        } catch (DuplicateKeyException ignored) {
+            throw new IllegalStateException("이미 존재하는 역 이름입니다.");
+        }
+        return savedStations;
+    }
+
+    private List<Station> insert(List<Station> stations) {
+        String sql = "INSERT INTO station (name) VALUES "
+                + String.join(", ", Collections.nCopies(stations.size(), "(?)"));
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, new String[]{"id"});
+            for (int i = 0; i < stations.size(); i++) {
+                statement.setString(i + 1, stations.get(i).getName());
+            }
+            return statement;
+        }, keyHolder);
+
+        List<Station> savedStations = new ArrayList<>(stations.size());
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < stations.size(); i++) {
+            long id = ((Number) keys.get(i).values().iterator().next()).longValue();
+            savedStations.add(new Station(id, stations.get(i).getName()));
+        }
+        return savedStations;
+    }
+
     @Override
     public List<Station> findAll() {
         final String sql = "SELECT id, name FROM station";
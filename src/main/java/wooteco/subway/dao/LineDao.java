@@ -1,6 +1,7 @@
 package wooteco.subway.dao;
 
 import java.util.List;
+import java.util.Map;
 import wooteco.subway.domain.path.Fare;
 import wooteco.subway.domain.Line;
 
@@ -9,6 +10,8 @@ public interface LineDao {
 
     List<Line> findAll();
 
+    Map<Line, Fare> findAllWithExtraFare();
+
     Line findById(Long id);
 
     Fare findExtraFareById(Long id);
@@ -0,0 +1,99 @@
+package wooteco.subway.dao;
+
+import java.util.Objects;
+
+class OrderingKeys {
+    static final long GAP = 1L << 20;
+    private static final long LIMIT = Long.MAX_VALUE / 4;
+
+    private OrderingKeys() {
+    }
+
+    static long[] assign(Long[] currentKeys) {
+        boolean[] kept = findLongestIncreasing(currentKeys);
+        long[] keys = new long[currentKeys.length];
+        int previous = -1;
+        for (int i = 0; i <= currentKeys.length; i++) {
+            if (i < currentKeys.length && !kept[i]) {
+                continue;
+            }
+            if (i < currentKeys.length) {
+                keys[i] = currentKeys[i];
+            }
+            if (!fillBetween(currentKeys, keys, previous, i)) {
+                return rebalance(currentKeys.length);
+            }
+            previous = i;
+        }
+        return keys;
+    }
+
+    static long[] rebalance(int size) {
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = i * GAP;
+        }
+        return keys;
+    }
+
+    private static boolean fillBetween(Long[] currentKeys, long[] keys, int lower, int upper) {
+        int count = upper - lower - 1;
+        if (count == 0) {
+            return true;
+        }
+        boolean hasLower = lower >= 0;
+        boolean hasUpper = upper < currentKeys.length;
+        if (!hasLower && !hasUpper) {
+            System.arraycopy(rebalance(count), 0, keys, 0, count);
+            return true;
+        }
+        if (!hasLower) {
+            long first = keys[upper] - GAP * count;
+            return first > -LIMIT && fill(keys, lower, count, first - GAP, GAP);
+        }
+        if (!hasUpper) {
+            long last = keys[lower] + GAP * count;
+            return last < LIMIT && fill(keys, lower, count, keys[lower], GAP);
+        }
+        long step = (keys[upper] - keys[lower]) / (count + 1);
+        return step > 0 && fill(keys, lower, count, keys[lower], step);
+    }
+
+    private static boolean fill(long[] keys, int lower, int count, long start, long step) {
+        for (int i = 1; i <= count; i++) {
+            keys[lower + i] = start + step * i;
+        }
+        return true;
+    }
+
+    private static boolean[] findLongestIncreasing(Long[] currentKeys) {
+        int[] tails = new int[currentKeys.length];
+        int[] previous = new int[currentKeys.length];
+        int length = 0;
+        for (int i = 0; i < currentKeys.length; i++) {
+            Long key = currentKeys[i];
+            if (Objects.isNull(key) || Math.abs(key) >= LIMIT) {
+                continue;
+            }
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (currentKeys[tails[middle]] < key) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            length = Math.max(length, low + 1);
+        }
+
+        boolean[] kept = new boolean[currentKeys.length];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            kept[i] = true;
+        }
+        return kept;
+    }
+}
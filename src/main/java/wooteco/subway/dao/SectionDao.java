@@ -1,14 +1,17 @@
 package wooteco.subway.dao;
 
 import java.util.List;
+import java.util.Map;
 
 import wooteco.subway.domain.path.Fare;
 import wooteco.subway.domain.section.Section;
 
 public interface SectionDao {
-    void save(Section section, Long lineId);
+    Section save(Section section, Long lineId);
 
-    void save(List<Section> sections, Long lineId);
+    List<Section> save(List<Section> sections, Long lineId);
+
+    List<Section> save(List<Section> loadedSections, List<Section> sections, Long lineId);
 
     int delete(Section section);
 
@@ -16,5 +19,7 @@ public interface SectionDao {
 
     List<Section> findAll();
 
+    Map<Section, Fare> findAllWithExtraFare();
+
     Fare findExtraFareById(Long id);
 }
@@ -6,6 +6,8 @@ import wooteco.subway.domain.Station;
 public interface StationDao {
     Station save(Station station);
 
+    List<Station> saveAll(List<Station> stations);
+
     List<Station> findAll();
 
     Station findById(Long id);
@@ -0,0 +1,129 @@
+package wooteco.subway.dao;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import wooteco.subway.domain.Station;
+
+@Component
+public class StationRegistry {
+    private static final int MIN_PENDING_LIMIT = 64;
+
+    private final StationDao stationDao;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final Map<Long, Station> pending = new ConcurrentHashMap<>();
+    private volatile StationTable stations;
+
+    public StationRegistry(StationDao stationDao) {
+        this.stationDao = stationDao;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        stations = StationTable.of(stationDao.findAll());
+        pending.clear();
+    }
+
+    public Station findById(Long id) {
+        if (Objects.isNull(id)) {
+            throw new IllegalStateException("조회하고자 하는 역이 존재하지 않습니다.");
+        }
+        Station station = lookup(id);
+        if (Objects.nonNull(station)) {
+            hitCount.increment();
+            return station;
+        }
+        missCount.increment();
+        return register(stationDao.findById(id));
+    }
+
+    public Station intern(Long id, String name) {
+        Station station = lookup(id);
+        if (Objects.nonNull(station) && station.getName().equals(name)) {
+            return station;
+        }
+        return register(new Station(id, name));
+    }
+
+    public synchronized Station register(Station station) {
+        Station registered = lookup(station.getId());
+        if (Objects.nonNull(registered) && registered.hasSameNameWith(station)) {
+            return registered;
+        }
+        if (Objects.nonNull(getStations().get(station.getId()))) {
+            stations = getStations().with(station);
+            return station;
+        }
+        pending.put(station.getId(), station);
+        if (pending.size() > Math.max(MIN_PENDING_LIMIT, getStations().size() / 4)) {
+            flush();
+        }
+        return station;
+    }
+
+    public synchronized void registerAll(List<Station> newStations) {
+        for (Station station : newStations) {
+            pending.remove(station.getId());
+        }
+        stations = getStations().withAll(newStations);
+    }
+
+    private void flush() {
+        stations = getStations().withAll(pending.values());
+        pending.clear();
+    }
+
+    public synchronized void remove(Long id) {
+        pending.remove(id);
+        stations = getStations().without(id);
+    }
+
+    private Station lookup(long id) {
+        Station station = getStations().get(id);
+        if (Objects.isNull(station) && !pending.isEmpty()) {
+            return pending.get(id);
+        }
+        return station;
+    }
+
+    private StationTable getStations() {
+        StationTable current = stations;
+        if (Objects.isNull(current)) {
+            synchronized (this) {
+                if (Objects.isNull(stations)) {
+                    load();
+                }
+                return stations;
+            }
+        }
+        return current;
+    }
+
+    public int size() {
+        return getStations().size() + pending.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public double getHitRate() {
+        long requestCount = getHitCount() + getMissCount();
+        if (requestCount == 0) {
+            return 0;
+        }
+        return (double) getHitCount() / requestCount;
+    }
+}
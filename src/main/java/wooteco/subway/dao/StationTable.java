@@ -0,0 +1,113 @@
+package wooteco.subway.dao;
+
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import wooteco.subway.domain.Station;
+
+class StationTable {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final long[] keys;
+    private final Station[] values;
+    private final int mask;
+    private final int size;
+
+    private StationTable(int capacity, int size) {
+        this.keys = new long[capacity];
+        this.values = new Station[capacity];
+        this.mask = capacity - 1;
+        this.size = size;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    static StationTable of(Collection<Station> stations) {
+        StationTable table = new StationTable(capacityFor(stations.size()), stations.size());
+        for (Station station : stations) {
+            table.insert(station);
+        }
+        return table;
+    }
+
+    private static int capacityFor(int size) {
+        int capacity = 16;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    Station get(long id) {
+        int slot = slotOf(id);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == id) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    StationTable with(Station station) {
+        int size = get(station.getId()) == null ? this.size + 1 : this.size;
+        StationTable table = new StationTable(Math.max(keys.length, capacityFor(size)), size);
+        copyTo(table, station.getId());
+        table.insert(station);
+        return table;
+    }
+
+    StationTable withAll(Collection<Station> stations) {
+        List<Station> merged = new ArrayList<>(size + stations.size());
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) {
+                merged.add(values[slot]);
+            }
+        }
+        Map<Long, Station> added = new LinkedHashMap<>();
+        for (Station station : stations) {
+            added.put(station.getId(), station);
+        }
+        merged.removeIf(station -> added.containsKey(station.getId()));
+        merged.addAll(added.values());
+        return of(merged);
+    }
+
+    StationTable without(long id) {
+        if (get(id) == null) {
+            return this;
+        }
+        StationTable table = new StationTable(keys.length, size - 1);
+        copyTo(table, id);
+        return table;
+    }
+
+    private void copyTo(StationTable table, long excludedId) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY && keys[slot] != excludedId) {
+                table.insert(values[slot]);
+            }
+        }
+    }
+
+    private void insert(Station station) {
+        long id = station.getId();
+        int slot = slotOf(id);
+        while (keys[slot] != EMPTY && keys[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = id;
+        values[slot] = station;
+    }
+
+    private int slotOf(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    int size() {
+        return size;
+    }
+}
@@ -14,6 +14,10 @@ public class Age {
         }
     }
 
+    int getValue() {
+        return value;
+    }
+
     boolean isSameOrBiggerThan(int age) {
         return this.value == age || this.value > age;
     }
@@ -1,35 +1,51 @@
 package wooteco.subway.domain.path;
 
-import java.util.Arrays;
 import java.util.function.Predicate;
 
 public enum AgeFare {
-    KID(age -> age.isSameOrBiggerThan(6) && age.isSmallerThan(13),new Fare(350), 0.5),
-    TEENAGER(age -> age.isSameOrBiggerThan(13) && age.isSmallerThan(19), new Fare(350), 0.2),
-    FREE(age -> age.isSmallerThan(6) || age.isSameOrBiggerThan(65), new Fare(0), 1),
-    PUBLIC(age -> age.isSameOrBiggerThan(19) && age.isSmallerThan(65), new Fare(0), 0)
+    KID(age -> age.isSameOrBiggerThan(6) && age.isSmallerThan(13), 350, 50),
+    TEENAGER(age -> age.isSameOrBiggerThan(13) && age.isSmallerThan(19), 350, 20),
+    FREE(age -> age.isSmallerThan(6) || age.isSameOrBiggerThan(65), 0, 100),
+    PUBLIC(age -> age.isSameOrBiggerThan(19) && age.isSmallerThan(65), 0, 0)
     ;
 
+    private static final int MAX_AGE = 127;
+    private static final int[] DEDUCTIONS = new int[MAX_AGE + 1];
+    private static final int[] DISCOUNT_PERCENTS = new int[MAX_AGE + 1];
+
+    static {
+        for (int age = 0; age <= MAX_AGE; age++) {
+            AgeFare ageFare = of(new Age(age));
+            DEDUCTIONS[age] = ageFare.deduction;
+            DISCOUNT_PERCENTS[age] = ageFare.discountPercent;
+        }
+    }
+
     private final Predicate<Age> condition;
-    private final Fare deduction;
-    private final double discountRate;
+    private final int deduction;
+    private final int discountPercent;
 
-    AgeFare(Predicate<Age> condition, Fare deduction, double discountRate) {
+    AgeFare(Predicate<Age> condition, int deduction, int discountPercent) {
         this.condition = condition;
         this.deduction = deduction;
-        this.discountRate = discountRate;
+        this.discountPercent = discountPercent;
     }
 
-    public static Fare calculate(Fare fare, Age age) {
-        AgeFare applicableAgeFare = Arrays.stream(values())
-                .filter(ageFare -> ageFare.condition.test(age))
-                .findAny()
-                .orElseThrow(() -> new IllegalArgumentException("해당하는 요금 정책을 찾을 수 없습니다."));
-        return applicableAgeFare.calculate(fare);
+    private static AgeFare of(Age age) {
+        for (AgeFare ageFare : values()) {
+            if (ageFare.condition.test(age)) {
+                return ageFare;
+            }
+        }
+        throw new IllegalArgumentException("해당하는 요금 정책을 찾을 수 없습니다.");
     }
 
-    private Fare calculate(Fare fare) {
-        Fare deductedFare = fare.subtract(deduction);
-        return deductedFare.discount(discountRate);
+    static int calculate(int fare, int age) {
+        int index = Math.min(age, MAX_AGE);
+        int deductedFare = fare - DEDUCTIONS[index];
+        if (deductedFare < 0) {
+            throw new IllegalArgumentException("요금은 음수일 수 없습니다.");
+        }
+        return deductedFare - (deductedFare * DISCOUNT_PERCENTS[index] + 99) / 100;
     }
 }
@@ -0,0 +1,28 @@
+package wooteco.subway.domain.path;
+
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.section.Distance;
+
+public class Destination {
+    private final Station station;
+    private final Distance distance;
+    private final Fare extraFare;
+
+    public Destination(Station station, Distance distance, Fare extraFare) {
+        this.station = station;
+        this.distance = distance;
+        this.extraFare = extraFare;
+    }
+
+    public Fare calculateFare(Age age) {
+        return Fare.valueOf(FareCalculator.calculate(distance.getValue(), extraFare.getValue(), age));
+    }
+
+    public Station getStation() {
+        return station;
+    }
+
+    public double getDistance() {
+        return distance.getValue();
+    }
+}
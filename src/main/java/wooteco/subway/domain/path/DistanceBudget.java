@@ -0,0 +1,21 @@
+package wooteco.subway.domain.path;
+
+import wooteco.subway.domain.section.Distance;
+
+class DistanceBudget implements PathBudget {
+    private final double maxDistance;
+
+    DistanceBudget(Distance maxDistance) {
+        this.maxDistance = maxDistance.getValue();
+    }
+
+    @Override
+    public boolean allows(double distance, int extraFare) {
+        return distance <= maxDistance;
+    }
+
+    @Override
+    public boolean isExhaustedBy(double distance) {
+        return distance > maxDistance;
+    }
+}
@@ -4,6 +4,15 @@ import java.util.Arrays;
 import java.util.Objects;
 
 public class Fare implements Comparable<Fare> {
+    private static final int CACHE_LIMIT = 10_000;
+    private static final Fare[] CACHE = new Fare[CACHE_LIMIT / 10 + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Fare(i * 10);
+        }
+    }
+
     private final int value;
 
     public Fare(int value) {
@@ -28,6 +37,13 @@ public class Fare implements Comparable<Fare> {
         }
     }
 
+    public static Fare valueOf(int value) {
+        if (value >= 0 && value <= CACHE_LIMIT && value % 10 == 0) {
+            return CACHE[value / 10];
+        }
+        return new Fare(value);
+    }
+
     static Fare sum(Fare... fares) {
         int totalAmount = Arrays.stream(fares)
                 .mapToInt(fare -> fare.value)
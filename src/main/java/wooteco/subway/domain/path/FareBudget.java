@@ -0,0 +1,25 @@
+package wooteco.subway.domain.path;
+
+class FareBudget implements PathBudget {
+    private final Fare maxFare;
+    private final Age age;
+
+    FareBudget(Fare maxFare, Age age) {
+        this.maxFare = maxFare;
+        this.age = age;
+    }
+
+    @Override
+    public boolean allows(double distance, int extraFare) {
+        return calculateFare(distance, extraFare) <= maxFare.getValue();
+    }
+
+    @Override
+    public boolean isExhaustedBy(double distance) {
+        return calculateFare(distance, 0) > maxFare.getValue();
+    }
+
+    private int calculateFare(double distance, int extraFare) {
+        return FareCalculator.calculate(distance, extraFare, age);
+    }
+}
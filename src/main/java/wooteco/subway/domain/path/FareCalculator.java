@@ -0,0 +1,13 @@
+package wooteco.subway.domain.path;
+
+import wooteco.subway.domain.section.DistanceFare;
+
+final class FareCalculator {
+
+    private FareCalculator() {
+    }
+
+    static int calculate(double distance, int extraFare, Age age) {
+        return AgeFare.calculate(DistanceFare.calculateFare(distance) + extraFare, age.getValue());
+    }
+}
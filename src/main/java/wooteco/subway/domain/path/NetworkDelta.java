@@ -0,0 +1,90 @@
+package wooteco.subway.domain.path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import wooteco.subway.domain.section.Section;
+
+public class NetworkDelta {
+    private final List<Section> removedSections;
+    private final Map<Section, Fare> addedSections;
+    private final Map<Section, Fare> reweightedSections;
+
+    public NetworkDelta(List<Section> removedSections, Map<Section, Fare> addedSections,
+                        Map<Section, Fare> reweightedSections) {
+        this.removedSections = List.copyOf(removedSections);
+        this.addedSections = Collections.unmodifiableMap(new LinkedHashMap<>(addedSections));
+        this.reweightedSections = Collections.unmodifiableMap(new LinkedHashMap<>(reweightedSections));
+    }
+
+    public static NetworkDelta empty() {
+        return new NetworkDelta(List.of(), Map.of(), Map.of());
+    }
+
+    public static NetworkDelta added(Section section, Fare extraFare) {
+        return new NetworkDelta(List.of(), Map.of(section, extraFare), Map.of());
+    }
+
+    public static NetworkDelta removed(List<Section> sections) {
+        return new NetworkDelta(sections, Map.of(), Map.of());
+    }
+
+    public static NetworkDelta reweighted(List<Section> sections, Fare extraFare) {
+        Map<Section, Fare> reweightedSections = new LinkedHashMap<>();
+        for (Section section : sections) {
+            reweightedSections.put(section, extraFare);
+        }
+        return new NetworkDelta(List.of(), Map.of(), reweightedSections);
+    }
+
+    public static NetworkDelta between(List<Section> before, List<Section> after, Fare extraFare) {
+        Map<Long, Section> beforeById = new LinkedHashMap<>();
+        for (Section section : before) {
+            beforeById.put(section.getId(), section);
+        }
+        List<Section> removedSections = new ArrayList<>();
+        Map<Section, Fare> addedSections = new LinkedHashMap<>();
+        Map<Section, Fare> reweightedSections = new LinkedHashMap<>();
+        for (Section section : after) {
+            Section previous = beforeById.remove(section.getId());
+            if (Objects.isNull(previous)) {
+                addedSections.put(section, extraFare);
+            } else if (!hasSameStations(previous, section)) {
+                removedSections.add(previous);
+                addedSections.put(section, extraFare);
+            } else if (previous.getDistance() != section.getDistance()) {
+                reweightedSections.put(section, extraFare);
+            }
+        }
+        removedSections.addAll(beforeById.values());
+        return new NetworkDelta(removedSections, addedSections, reweightedSections);
+    }
+
+    private static boolean hasSameStations(Section section, Section other) {
+        return section.getUpStation().equals(other.getUpStation())
+                && section.getDownStation().equals(other.getDownStation());
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int size() {
+        return removedSections.size() + addedSections.size() + reweightedSections.size();
+    }
+
+    public List<Section> getRemovedSections() {
+        return removedSections;
+    }
+
+    public Map<Section, Fare> getAddedSections() {
+        return addedSections;
+    }
+
+    public Map<Section, Fare> getReweightedSections() {
+        return reweightedSections;
+    }
+}
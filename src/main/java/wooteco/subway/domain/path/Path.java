@@ -16,8 +16,7 @@ public class Path {
     }
 
     public Fare calculateFare(Age age) {
-        Fare fare = Fare.sum(distance.calculateFare(), extraFare);
-        return AgeFare.calculate(fare, age);
+        return Fare.valueOf(FareCalculator.calculate(distance.getValue(), extraFare.getValue(), age));
     }
 
     public List<Station> getStations() {
@@ -1,7 +1,22 @@
 package wooteco.subway.domain.path;
 
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import wooteco.subway.domain.Station;
 
 public interface PathAlgorithm {
     Path getPath(Station source, Station target);
+
+    Path getCheapestPath(Station source, Station target);
+
+    List<Path> getAlternativePaths(Station source, Station target, int maxCount, double maxDetourRatio);
+
+    void forEachDestination(Station source, PathBudget budget, Consumer<Destination> consumer);
+
+    default List<Path> getPaths(Station source, List<Station> targets) {
+        return targets.stream()
+                .map(target -> getPath(source, target))
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,17 @@
+package wooteco.subway.domain.path;
+
+import wooteco.subway.domain.section.Distance;
+
+public interface PathBudget {
+    static PathBudget ofDistance(Distance maxDistance) {
+        return new DistanceBudget(maxDistance);
+    }
+
+    static PathBudget ofFare(Fare maxFare, Age age) {
+        return new FareBudget(maxFare, age);
+    }
+
+    boolean allows(double distance, int extraFare);
+
+    boolean isExhaustedBy(double distance);
+}
@@ -0,0 +1,32 @@
+package wooteco.subway.domain.path;
+
+import java.util.Arrays;
+import java.util.Objects;
+import wooteco.subway.domain.Station;
+
+public enum RouteMode {
+    DISTANCE {
+        @Override
+        public Path find(PathAlgorithm pathAlgorithm, Station source, Station target) {
+            return pathAlgorithm.getPath(source, target);
+        }
+    },
+    FARE {
+        @Override
+        public Path find(PathAlgorithm pathAlgorithm, Station source, Station target) {
+            return pathAlgorithm.getCheapestPath(source, target);
+        }
+    };
+
+    public static RouteMode from(String name) {
+        if (Objects.isNull(name) || name.isBlank()) {
+            return DISTANCE;
+        }
+        return Arrays.stream(values())
+                .filter(mode -> mode.name().equalsIgnoreCase(name))
+                .findAny()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 경로 탐색 방식입니다."));
+    }
+
+    public abstract Path find(PathAlgorithm pathAlgorithm, Station source, Station target);
+}
@@ -1,8 +1,5 @@
 package wooteco.subway.domain.section;
 
-import java.util.function.Function;
-import wooteco.subway.domain.path.Fare;
-
 public class Distance {
     private final double value;
 
@@ -40,11 +37,6 @@ public class Distance {
         return this.value < distance.value;
     }
 
-    public Fare calculateFare() {
-        Function<Double, Fare> fareCalculator = DistanceFare.fareCalculator();
-        return fareCalculator.apply(value);
-    }
-
     public double getValue() {
         return value;
     }
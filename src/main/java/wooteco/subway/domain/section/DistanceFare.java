@@ -1,45 +1,54 @@
 package wooteco.subway.domain.section;
 
-import java.util.Arrays;
-import java.util.function.Function;
-import wooteco.subway.domain.path.Fare;
-
 public enum DistanceFare {
-    OVER_TEN_KM {
-        @Override
-        protected int calculate(double distance) {
-            if (distance > 50) {
-                return calculate(50);
-            }
-            double extraDistance = distance - 10;
-            return calculate(extraDistance, 5, 100);
-        }
-    },
-    OVER_FIFTY_KM {
-        @Override
-        protected int calculate(double distance) {
-            double extraDistance = distance - 50;
-            return calculate(extraDistance, 8, 100);
-        }
-    };
+    OVER_TEN_KM(10, 50, 5, 100),
+    OVER_FIFTY_KM(50, Integer.MAX_VALUE, 8, 100);
 
     private static final int BASIC_FARE = 1250;
+    private static final int METERS_PER_KILOMETER = 1000;
+    private static final int MAX_KILOMETER = 1000;
+    private static final int[] FARES = new int[MAX_KILOMETER + 1];
+
+    static {
+        for (int kilometer = 0; kilometer <= MAX_KILOMETER; kilometer++) {
+            FARES[kilometer] = fareOf(kilometer);
+        }
+    }
 
-    static Function<Double, Fare> fareCalculator() {
-        return distance -> {
-            int totalExtraFare = Arrays.stream(values())
-                    .mapToInt(distanceFare -> distanceFare.calculate(distance))
-                    .sum();
-            return new Fare(BASIC_FARE + totalExtraFare);
-        };
+    private final int fromKilometer;
+    private final int toKilometer;
+    private final int unitKilometer;
+    private final int amount;
+
+    DistanceFare(int fromKilometer, int toKilometer, int unitKilometer, int amount) {
+        this.fromKilometer = fromKilometer;
+        this.toKilometer = toKilometer;
+        this.unitKilometer = unitKilometer;
+        this.amount = amount;
+    }
+
+    public static int calculateFare(double distance) {
+        long meter = Math.round(distance * METERS_PER_KILOMETER);
+        long kilometer = (meter + METERS_PER_KILOMETER - 1) / METERS_PER_KILOMETER;
+        if (kilometer <= MAX_KILOMETER) {
+            return FARES[(int) kilometer];
+        }
+        return fareOf((int) Math.min(kilometer, Integer.MAX_VALUE));
     }
 
-    protected abstract int calculate(double distance);
+    private static int fareOf(int kilometer) {
+        int fare = BASIC_FARE;
+        for (DistanceFare band : values()) {
+            fare += band.extraFareOf(kilometer);
+        }
+        return fare;
+    }
 
-    int calculate(double distance, int unit, int amount) {
-        if (distance <= 0) {
+    private int extraFareOf(int kilometer) {
+        int extraKilometer = Math.min(kilometer, toKilometer) - fromKilometer;
+        if (extraKilometer <= 0) {
             return 0;
         }
-        return (int) ((Math.ceil(distance / unit)) * amount);
+        return (extraKilometer + unitKilometer - 1) / unitKilometer * amount;
     }
 }
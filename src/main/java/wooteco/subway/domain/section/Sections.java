@@ -1,131 +1,263 @@
 package wooteco.subway.domain.section;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
 import wooteco.subway.domain.Station;
 
 public class Sections {
-    private final LinkedList<Section> sections;
+    private static final long ORDER_LIMIT = 1L << 62;
+    private static final long GAP = 1L << 32;
+    private static final double DENSITY = 1.5;
 
-    public Sections(LinkedList<Section> sections) {
-        this.sections = sections;
-    }
+    private final Map<Station, List<Node>> nodesByUpStation = new HashMap<>();
+    private final Map<Station, List<Node>> nodesByDownStation = new HashMap<>();
+    private Node first;
+    private Node last;
+    private int size;
 
     public Sections(List<Section> rawSections) {
-        this(new LinkedList<>(rawSections));
+        for (Section section : rawSections) {
+            insertAfter(last, section);
+        }
     }
 
     public void add(Section section) {
-        if (sections.isEmpty()) {
-            sections.add(section);
+        if (size == 0) {
+            insertAfter(null, section);
             return;
         }
         if (section.hasDownStation(getUpTermination())) {
-            sections.addFirst(section);
+            insertAfter(null, section);
             return;
         }
         if (section.hasUpStation(getDownTermination())) {
-            sections.addLast(section);
+            insertAfter(last, section);
             return;
         }
         splitAndAdd(section);
     }
 
     private void splitAndAdd(Section newSection) {
-        if (containsSameUpStationWith(newSection)) {
-            splitRightAndAdd(newSection);
+        Node upNode = findFirst(nodesByUpStation, newSection.getUpStation());
+        if (Objects.nonNull(upNode)) {
+            splitRightAndAdd(upNode, newSection);
             return;
         }
-        if (containsSameDownStationWith(newSection)) {
-            splitLeftAndAdd(newSection);
+        Node downNode = findFirst(nodesByDownStation, newSection.getDownStation());
+        if (Objects.nonNull(downNode)) {
+            splitLeftAndAdd(downNode, newSection);
             return;
         }
         throw new IllegalArgumentException("노선에 상행 종점과 하행 종점이 모두 존재하지 않아 구간을 추가할 수 없습니다.");
     }
 
-    private void splitRightAndAdd(Section newSection) {
-        Section originalSection = findSection(section -> section.hasSameUpStationWith(newSection));
-        Section splitSection = originalSection.splitRightBy(newSection);
-        sections.add(sections.indexOf(originalSection), newSection);
-        sections.add(sections.indexOf(originalSection), splitSection);
-        sections.remove(originalSection);
+    private void splitRightAndAdd(Node original, Section newSection) {
+        Section splitSection = original.section.splitRightBy(newSection);
+        Node previous = original.previous;
+        remove(original);
+        insertAfter(insertAfter(previous, newSection), splitSection);
     }
 
-    private void splitLeftAndAdd(Section newSection) {
-        Section originalSection = findSection(section -> section.hasSameDownStationWith(newSection));
-        Section splitSection = originalSection.splitLeftBy(newSection);
-        sections.add(sections.indexOf(originalSection), splitSection);
-        sections.add(sections.indexOf(originalSection), newSection);
-        sections.remove(originalSection);
+    private void splitLeftAndAdd(Node original, Section newSection) {
+        Section splitSection = original.section.splitLeftBy(newSection);
+        Node previous = original.previous;
+        remove(original);
+        insertAfter(insertAfter(previous, splitSection), newSection);
     }
 
     public Section delete(Station station) {
         checkSize();
         if (station.equals(getUpTermination())) {
-            return sections.removeFirst();
+            return remove(first);
         }
         if (station.equals(getDownTermination())) {
-            return sections.removeLast();
+            return remove(last);
         }
         return mergeAndDelete(station);
     }
 
     private Section mergeAndDelete(Station station) {
-        Section originalSection = findSection(section -> section.hasDownStation(station));
-        if (originalSection == null) {
+        Node original = findFirst(nodesByDownStation, station);
+        if (original == null) {
             throw new IllegalArgumentException("해당 역은 노선에 존재하지 않습니다.");
         }
-        int mergingIndex = sections.indexOf(originalSection) + 1;
-        Section mergedSection = originalSection.mergeWith(sections.get(mergingIndex));
-        sections.add(mergingIndex, mergedSection);
-        sections.remove(originalSection);
-        return sections.remove(mergingIndex);
+        Node merging = original.next;
+        Section mergedSection = original.section.mergeWith(merging.section);
+        Node previous = original.previous;
+        remove(original);
+        Section deletedSection = remove(merging);
+        insertAfter(previous, mergedSection);
+        return deletedSection;
     }
 
     private void checkSize() {
-        if (sections.size() <= 1) {
+        if (size <= 1) {
             throw new IllegalStateException("노선에 구간이 하나 뿐일 때에는 삭제할 수 없습니다.");
         }
     }
 
-    private Section findSection(Predicate<Section> sectionPredicate) {
-        return sections.stream()
-                .filter(sectionPredicate)
-                .findAny()
-                .orElse(null);
+    private Node findFirst(Map<Station, List<Node>> index, Station station) {
+        List<Node> nodes = index.get(station);
+        if (Objects.isNull(nodes)) {
+            return null;
+        }
+        Node found = nodes.get(0);
+        for (int i = 1; i < nodes.size(); i++) {
+            if (nodes.get(i).order < found.order) {
+                found = nodes.get(i);
+            }
+        }
+        return found;
+    }
+
+    private Node insertAfter(Node previous, Section section) {
+        Node next = Objects.isNull(previous) ? first : previous.next;
+        Node node = new Node(section, previous, next);
+        if (Objects.isNull(previous)) {
+            first = node;
+        } else {
+            previous.next = node;
+        }
+        if (Objects.isNull(next)) {
+            last = node;
+        } else {
+            next.previous = node;
+        }
+        size++;
+        assignOrder(node);
+        nodesByUpStation.computeIfAbsent(section.getUpStation(), station -> new ArrayList<>(1)).add(node);
+        nodesByDownStation.computeIfAbsent(section.getDownStation(), station -> new ArrayList<>(1)).add(node);
+        return node;
+    }
+
+    private void assignOrder(Node node) {
+        long lower = Objects.isNull(node.previous) ? -1 : node.previous.order;
+        long upper = Objects.isNull(node.next) ? ORDER_LIMIT : node.next.order;
+        if (upper - lower < 2) {
+            relabelAround(node);
+            return;
+        }
+        node.order = orderBetween(node, lower, upper);
     }
 
-    private boolean containsSameUpStationWith(Section otherSection) {
-        return sections.stream()
-                .anyMatch((section) -> section.hasSameUpStationWith(otherSection));
+    private long orderBetween(Node node, long lower, long upper) {
+        if (Objects.isNull(node.previous) && Objects.isNull(node.next)) {
+            return ORDER_LIMIT / 2;
+        }
+        if (Objects.isNull(node.next) && upper - lower > GAP) {
+            return lower + GAP;
+        }
+        if (Objects.isNull(node.previous) && upper - lower > GAP) {
+            return upper - GAP;
+        }
+        return lower + (upper - lower) / 2;
     }
 
-    private boolean containsSameDownStationWith(Section otherSection) {
-        return sections.stream()
-                .anyMatch((section) -> section.hasSameDownStationWith(otherSection));
+    private void relabelAround(Node node) {
+        long anchor = Objects.isNull(node.previous) ? node.next.order : node.previous.order;
+        Node from = node;
+        Node to = node;
+        int count = 1;
+        double capacity = 1;
+        for (int level = 1; ; level++) {
+            long rangeSize = 1L << level;
+            long low = anchor & -rangeSize;
+            while (Objects.nonNull(from.previous) && from.previous.order >= low) {
+                from = from.previous;
+                count++;
+            }
+            while (Objects.nonNull(to.next) && to.next.order < low + rangeSize) {
+                to = to.next;
+                count++;
+            }
+            capacity *= 2 / DENSITY;
+            if (count <= capacity || rangeSize == ORDER_LIMIT) {
+                relabel(from, to, low, rangeSize / count);
+                return;
+            }
+        }
+    }
+
+    private void relabel(Node from, Node to, long low, long spacing) {
+        long order = low + spacing / 2;
+        for (Node node = from; node != to.next; node = node.next) {
+            node.order = order;
+            order += spacing;
+        }
+    }
+
+    private Section remove(Node node) {
+        if (Objects.isNull(node.previous)) {
+            first = node.next;
+        } else {
+            node.previous.next = node.next;
+        }
+        if (Objects.isNull(node.next)) {
+            last = node.previous;
+        } else {
+            node.next.previous = node.previous;
+        }
+        size--;
+        unindex(nodesByUpStation, node.section.getUpStation(), node);
+        unindex(nodesByDownStation, node.section.getDownStation(), node);
+        return node.section;
+    }
+
+    private void unindex(Map<Station, List<Node>> index, Station station, Node node) {
+        List<Node> nodes = index.get(station);
+        nodes.remove(node);
+        if (nodes.isEmpty()) {
+            index.remove(station);
+        }
     }
 
     private Station getUpTermination() {
-        Section firstSection = sections.get(0);
-        return firstSection.getUpStation();
+        checkNotEmpty();
+        return first.section.getUpStation();
     }
 
     private Station getDownTermination() {
-        Section lastSection = sections.get(sections.size() - 1);
-        return lastSection.getDownStation();
+        checkNotEmpty();
+        return last.section.getDownStation();
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("노선에 구간이 존재하지 않습니다.");
+        }
     }
 
     public List<Station> getAllStations() {
-        List<Station> stations = sections.stream()
-                .map(Section::getUpStation)
-                .collect(Collectors.toList());
+        List<Station> stations = new ArrayList<>(size + 1);
+        for (Node node = first; Objects.nonNull(node); node = node.next) {
+            stations.add(node.section.getUpStation());
+        }
         stations.add(getDownTermination());
-        return List.copyOf(stations);
+        return Collections.unmodifiableList(stations);
     }
 
     public List<Section> getSections() {
-        return List.copyOf(sections);
+        List<Section> sections = new ArrayList<>(size);
+        for (Node node = first; Objects.nonNull(node); node = node.next) {
+            sections.add(node.section);
+        }
+        return Collections.unmodifiableList(sections);
+    }
+
+    private static class Node {
+        private final Section section;
+        private Node previous;
+        private Node next;
+        private long order;
+
+        Node(Section section, Node previous, Node next) {
+            this.section = section;
+            this.previous = previous;
+            this.next = next;
+        }
     }
 }
@@ -0,0 +1,51 @@
+package wooteco.subway.dto.request;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+public class AlternativePathRequest {
+    @NotNull(message = "출발역은 필수입니다.")
+    private final Long source;
+    @NotNull(message = "도착역은 필수입니다.")
+    private final Long target;
+    @NotNull(message = "나이는 필수입니다.")
+    @Min(value = 0, message = "나이는 음수일 수 없습니다.")
+    private final int age;
+    @Min(value = 1, message = "경로 개수는 1 이상이어야 합니다.")
+    @Max(value = 5, message = "경로 개수는 5 이하여야 합니다.")
+    private final Integer count;
+    @DecimalMin(value = "1.0", message = "우회 비율은 1 이상이어야 합니다.")
+    @DecimalMax(value = "3.0", message = "우회 비율은 3 이하여야 합니다.")
+    private final Double maxDetour;
+
+    public AlternativePathRequest(Long source, Long target, int age, Integer count, Double maxDetour) {
+        this.source = source;
+        this.target = target;
+        this.age = age;
+        this.count = count;
+        this.maxDetour = maxDetour;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    public Double getMaxDetour() {
+        return maxDetour;
+    }
+}
@@ -0,0 +1,40 @@
+package wooteco.subway.dto.request;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+
+public class DestinationRequest {
+    @NotNull(message = "출발역은 필수입니다.")
+    private final Long source;
+    @NotNull(message = "나이는 필수입니다.")
+    @Min(value = 0, message = "나이는 음수일 수 없습니다.")
+    private final int age;
+    @PositiveOrZero(message = "거리 한도는 음수일 수 없습니다.")
+    private final Double maxDistance;
+    @PositiveOrZero(message = "요금 한도는 음수일 수 없습니다.")
+    private final Integer maxFare;
+
+    public DestinationRequest(Long source, int age, Double maxDistance, Integer maxFare) {
+        this.source = source;
+        this.age = age;
+        this.maxDistance = maxDistance;
+        this.maxFare = maxFare;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public Double getMaxDistance() {
+        return maxDistance;
+    }
+
+    public Integer getMaxFare() {
+        return maxFare;
+    }
+}
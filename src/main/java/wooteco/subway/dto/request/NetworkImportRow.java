@@ -0,0 +1,47 @@
+package wooteco.subway.dto.request;
+
+public class NetworkImportRow {
+    private String line;
+    private String color;
+    private int extraFare;
+    private String upStation;
+    private String downStation;
+    private int distance;
+
+    public NetworkImportRow() {
+    }
+
+    public NetworkImportRow(String line, String color, int extraFare, String upStation, String downStation,
+                            int distance) {
+        this.line = line;
+        this.color = color;
+        this.extraFare = extraFare;
+        this.upStation = upStation;
+        this.downStation = downStation;
+        this.distance = distance;
+    }
+
+    public String getLine() {
+        return line;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public int getExtraFare() {
+        return extraFare;
+    }
+
+    public String getUpStation() {
+        return upStation;
+    }
+
+    public String getDownStation() {
+        return downStation;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
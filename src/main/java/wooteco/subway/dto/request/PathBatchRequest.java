@@ -0,0 +1,24 @@
+package wooteco.subway.dto.request;
+
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
+public class PathBatchRequest {
+    @NotEmpty(message = "조회할 경로는 하나 이상이어야 합니다.")
+    @Size(max = 1000, message = "한 번에 조회할 수 있는 경로는 1000개 이하입니다.")
+    @Valid
+    private List<PathRequest> paths;
+
+    public PathBatchRequest() {
+    }
+
+    public PathBatchRequest(List<PathRequest> paths) {
+        this.paths = paths;
+    }
+
+    public List<PathRequest> getPaths() {
+        return paths;
+    }
+}
@@ -1,5 +1,7 @@
 package wooteco.subway.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
@@ -11,11 +13,17 @@ public class PathRequest {
     @NotNull(message = "나이는 필수입니다.")
     @Min(value = 0, message = "나이는 음수일 수 없습니다.")
     private final int age;
+    private final String mode;
 
-    public PathRequest(Long source, Long target, int age) {
+    @JsonCreator
+    public PathRequest(@JsonProperty("source") Long source,
+                       @JsonProperty("target") Long target,
+                       @JsonProperty("age") int age,
+                       @JsonProperty("mode") String mode) {
         this.source = source;
         this.target = target;
         this.age = age;
+        this.mode = mode;
     }
 
     public Long getSource() {
@@ -29,4 +37,8 @@ public class PathRequest {
     public int getAge() {
         return age;
     }
+
+    public String getMode() {
+        return mode;
+    }
 }
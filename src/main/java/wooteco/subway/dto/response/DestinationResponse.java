@@ -0,0 +1,34 @@
+package wooteco.subway.dto.response;
+
+public class DestinationResponse {
+    private Long id;
+    private String name;
+    private double distance;
+    private int fare;
+
+    public DestinationResponse() {
+    }
+
+    public DestinationResponse(Long id, String name, double distance, int fare) {
+        this.id = id;
+        this.name = name;
+        this.distance = distance;
+        this.fare = fare;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getDistance() {
+        return distance;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+}
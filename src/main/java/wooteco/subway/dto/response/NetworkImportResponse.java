@@ -0,0 +1,28 @@
+package wooteco.subway.dto.response;
+
+public class NetworkImportResponse {
+    private int stationCount;
+    private int lineCount;
+    private int sectionCount;
+
+    public NetworkImportResponse() {
+    }
+
+    public NetworkImportResponse(int stationCount, int lineCount, int sectionCount) {
+        this.stationCount = stationCount;
+        this.lineCount = lineCount;
+        this.sectionCount = sectionCount;
+    }
+
+    public int getStationCount() {
+        return stationCount;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    public int getSectionCount() {
+        return sectionCount;
+    }
+}
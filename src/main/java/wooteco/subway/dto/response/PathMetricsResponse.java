@@ -0,0 +1,94 @@
+package wooteco.subway.dto.response;
+
+import java.util.Map;
+
+public class PathMetricsResponse {
+    private Map<String, HistogramResponse> latencies;
+    private HistogramResponse settledVertices;
+    private HistogramResponse relaxedEdges;
+    private HistogramResponse pathLength;
+    private long cacheHitCount;
+    private long cacheMissCount;
+    private long cacheEvictionCount;
+    private long loadCount;
+    private long coalescedCount;
+    private double coalescingRatio;
+    private long stationHitCount;
+    private long stationMissCount;
+    private double stationHitRate;
+
+    public PathMetricsResponse() {
+    }
+
+    public PathMetricsResponse(Map<String, HistogramResponse> latencies, HistogramResponse settledVertices,
+                               HistogramResponse relaxedEdges, HistogramResponse pathLength,
+                               long cacheHitCount, long cacheMissCount, long cacheEvictionCount,
+                               long loadCount, long coalescedCount, double coalescingRatio,
+                               long stationHitCount, long stationMissCount, double stationHitRate) {
+        this.latencies = latencies;
+        this.settledVertices = settledVertices;
+        this.relaxedEdges = relaxedEdges;
+        this.pathLength = pathLength;
+        this.cacheHitCount = cacheHitCount;
+        this.cacheMissCount = cacheMissCount;
+        this.cacheEvictionCount = cacheEvictionCount;
+        this.loadCount = loadCount;
+        this.coalescedCount = coalescedCount;
+        this.coalescingRatio = coalescingRatio;
+        this.stationHitCount = stationHitCount;
+        this.stationMissCount = stationMissCount;
+        this.stationHitRate = stationHitRate;
+    }
+
+    public Map<String, HistogramResponse> getLatencies() {
+        return latencies;
+    }
+
+    public HistogramResponse getSettledVertices() {
+        return settledVertices;
+    }
+
+    public HistogramResponse getRelaxedEdges() {
+        return relaxedEdges;
+    }
+
+    public HistogramResponse getPathLength() {
+        return pathLength;
+    }
+
+    public long getCacheHitCount() {
+        return cacheHitCount;
+    }
+
+    public long getCacheMissCount() {
+        return cacheMissCount;
+    }
+
+    public long getCacheEvictionCount() {
+        return cacheEvictionCount;
+    }
+
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    public double getCoalescingRatio() {
+        return coalescingRatio;
+    }
+
+    public long getStationHitCount() {
+        return stationHitCount;
+    }
+
+    public long getStationMissCount() {
+        return stationMissCount;
+    }
+
+    public double getStationHitRate() {
+        return stationHitRate;
+    }
+}
@@ -0,0 +1,86 @@
+package wooteco.subway.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
+
+public class AllPairsShortestPath extends CompactPathAlgorithm {
+    private static final int MAX_VERTEX_COUNT = 46_340;
+    private static final int BYTES_PER_PAIR = Double.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final int MAX_HEAP_SHARE = 2;
+
+    private final int vertexCount;
+    private final double[] distances;
+    private final int[] extraFares;
+    private final int[] previousVertices;
+
+    public AllPairsShortestPath(Map<Section, Fare> edges) {
+        this(CompactGraph.from(edges));
+    }
+
+    public AllPairsShortestPath(CompactGraph graph) {
+        super(graph);
+        checkSize(graph);
+        this.vertexCount = graph.getVertexCount();
+        this.distances = new double[vertexCount * vertexCount];
+        this.extraFares = new int[vertexCount * vertexCount];
+        this.previousVertices = new int[vertexCount * vertexCount];
+        IntStream.range(0, vertexCount)
+                .parallel()
+                .forEach(this::fillRow);
+    }
+
+    public static int getMaxVertexCount() {
+        return getMaxVertexCount(Runtime.getRuntime().maxMemory());
+    }
+
+    static int getMaxVertexCount(long maxMemory) {
+        long pairCount = maxMemory / MAX_HEAP_SHARE / BYTES_PER_PAIR;
+        return (int) Math.min(MAX_VERTEX_COUNT, (long) Math.sqrt(pairCount));
+    }
+
+    private void checkSize(CompactGraph graph) {
+        if (graph.getVertexCount() > getMaxVertexCount()) {
+            throw new IllegalStateException("역이 너무 많아 모든 경로를 미리 계산할 수 없습니다.");
+        }
+    }
+
+    private void fillRow(int source) {
+        int row = source * vertexCount;
+        Arrays.fill(distances, row, row + vertexCount, Double.POSITIVE_INFINITY);
+        Arrays.fill(previousVertices, row, row + vertexCount, -1);
+
+        SearchBuffer buffer = SearchBuffer.acquire(vertexCount);
+        Dijkstra.search(graph, buffer, source, Dijkstra.ALL_VERTICES);
+        distances[row + source] = 0;
+        for (int order = 1; order < buffer.getSettledCount(); order++) {
+            int vertex = buffer.getSettled(order);
+            distances[row + vertex] = buffer.getDistance(vertex);
+            previousVertices[row + vertex] = buffer.getPreviousVertex(vertex);
+            extraFares[row + vertex] = buffer.getExtraFare(vertex);
+        }
+    }
+
+    @Override
+    protected Path findPath(int source, int target) {
+        int row = source * vertexCount;
+        checkReachable(distances[row + target]);
+
+        List<Station> stations = new ArrayList<>();
+        for (int vertex = target; vertex != source; vertex = previousVertices[row + vertex]) {
+            stations.add(graph.getStation(vertex));
+        }
+        stations.add(graph.getStation(source));
+        Collections.reverse(stations);
+        Distance distance = Distance.fromKilometer(distances[row + target]);
+        return new Path(stations, distance, new Fare(extraFares[row + target]));
+    }
+}
@@ -0,0 +1,233 @@
+package wooteco.subway.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Collectors;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.section.Distance;
+
+final class AlternativePathSearch {
+    private final CompactGraph graph;
+    private final int target;
+    private final SearchBuffer reverseTree;
+    private final double maxDistance;
+
+    private AlternativePathSearch(CompactGraph graph, int target, SearchBuffer reverseTree, double maxDistance) {
+        this.graph = graph;
+        this.target = target;
+        this.reverseTree = reverseTree;
+        this.maxDistance = maxDistance;
+    }
+
+    static List<Path> search(CompactGraph graph, int source, int target, int maxCount, double maxDetourRatio) {
+        SearchBuffer reverseTree = SearchBuffer.acquireReverse(graph.getVertexCount());
+        Dijkstra.search(graph, reverseTree, target, Dijkstra.ALL_VERTICES);
+        double shortestDistance = reverseTree.getDistance(source);
+        if (Double.isInfinite(shortestDistance)) {
+            throw new IllegalStateException("해당하는 경로가 존재하지 않습니다.");
+        }
+        AlternativePathSearch search = new AlternativePathSearch(
+                graph, target, reverseTree, shortestDistance * maxDetourRatio);
+        return search.findRoutes(source, maxCount).stream()
+                .map(route -> route.toPath(graph))
+                .collect(Collectors.toList());
+    }
+
+    private List<Route> findRoutes(int source, int maxCount) {
+        List<Route> routes = new ArrayList<>();
+        routes.add(shortestRoute(source));
+        Set<Route> foundRoutes = new HashSet<>(routes);
+        Queue<Route> candidates = new PriorityQueue<>(Comparator.comparingDouble(route -> route.distance));
+        while (routes.size() < maxCount) {
+            Route previous = routes.get(routes.size() - 1);
+            for (int spurIndex = 0; spurIndex < previous.edges.length; spurIndex++) {
+                Route candidate = findSpurRoute(routes, previous, spurIndex);
+                if (candidate != null && foundRoutes.add(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+            routes.add(candidates.poll());
+        }
+        return routes;
+    }
+
+    private Route shortestRoute(int source) {
+        List<Integer> vertices = new ArrayList<>();
+        List<Integer> edges = new ArrayList<>();
+        vertices.add(source);
+        for (int vertex = source; vertex != target; vertex = reverseTree.getPreviousVertex(vertex)) {
+            int next = reverseTree.getPreviousVertex(vertex);
+            edges.add(findEdge(vertex, reverseTree.getPreviousEdge(vertex)));
+            vertices.add(next);
+        }
+        return new Route(graph, toArray(vertices), toArray(edges));
+    }
+
+    private int findEdge(int vertex, int reverseEdge) {
+        int section = graph.getSection(reverseEdge);
+        for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+            if (graph.getSection(edge) == section) {
+                return edge;
+            }
+        }
+        throw new IllegalStateException("구간의 역방향 간선을 찾을 수 없습니다.");
+    }
+
+    private Route findSpurRoute(List<Route> routes, Route previous, int spurIndex) {
+        int spur = previous.vertices[spurIndex];
+        double rootDistance = previous.distanceUntil(graph, spurIndex);
+        if (rootDistance + reverseTree.getDistance(spur) > maxDistance) {
+            return null;
+        }
+
+        SearchBuffer buffer = SearchBuffer.acquire(graph.getVertexCount());
+        for (int i = 0; i < spurIndex; i++) {
+            buffer.exclude(previous.vertices[i]);
+        }
+        int[] blockedSections = findBlockedSections(routes, previous, spurIndex);
+        searchToTarget(buffer, spur, rootDistance, blockedSections);
+        if (!buffer.isSettled(target)) {
+            return null;
+        }
+        return previous.join(graph, spurIndex, spurEdges(buffer, spur));
+    }
+
+    private int[] findBlockedSections(List<Route> routes, Route previous, int spurIndex) {
+        return routes.stream()
+                .filter(route -> route.edges.length > spurIndex && route.hasSameRoot(previous, spurIndex))
+                .mapToInt(route -> graph.getSection(route.edges[spurIndex]))
+                .toArray();
+    }
+
+    private void searchToTarget(SearchBuffer buffer, int spur, double rootDistance, int[] blockedSections) {
+        IndexedMinHeap heap = buffer.getHeap();
+        buffer.reach(spur, 0, 0, -1, -1);
+        heap.offer(spur, reverseTree.getDistance(spur));
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            buffer.settle(vertex);
+            if (vertex == target) {
+                return;
+            }
+            double distance = buffer.getDistance(vertex);
+            for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+                int next = graph.getTarget(edge);
+                if (buffer.isSettled(next) || (vertex == spur && contains(blockedSections, graph.getSection(edge)))) {
+                    continue;
+                }
+                double nextDistance = distance + graph.getDistance(edge);
+                double estimate = nextDistance + reverseTree.getDistance(next);
+                if (rootDistance + estimate > maxDistance || nextDistance >= buffer.getDistance(next)) {
+                    continue;
+                }
+                buffer.reach(next, nextDistance, 0, vertex, edge);
+                heap.offer(next, estimate);
+            }
+        }
+    }
+
+    private boolean contains(int[] values, int value) {
+        for (int element : values) {
+            if (element == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int[] spurEdges(SearchBuffer buffer, int spur) {
+        List<Integer> edges = new ArrayList<>();
+        for (int vertex = target; vertex != spur; vertex = buffer.getPreviousVertex(vertex)) {
+            edges.add(buffer.getPreviousEdge(vertex));
+        }
+        int[] result = new int[edges.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = edges.get(result.length - 1 - i);
+        }
+        return result;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static class Route {
+        private final int[] vertices;
+        private final int[] edges;
+        private final int[] sections;
+        private final double distance;
+
+        Route(CompactGraph graph, int[] vertices, int[] edges) {
+            this.vertices = vertices;
+            this.edges = edges;
+            this.sections = Arrays.stream(edges)
+                    .map(graph::getSection)
+                    .toArray();
+            this.distance = distanceUntil(graph, edges.length);
+        }
+
+        double distanceUntil(CompactGraph graph, int edgeCount) {
+            double sum = 0;
+            for (int i = 0; i < edgeCount; i++) {
+                sum += graph.getDistance(edges[i]);
+            }
+            return sum;
+        }
+
+        boolean hasSameRoot(Route other, int edgeCount) {
+            return Arrays.equals(sections, 0, edgeCount, other.sections, 0, edgeCount);
+        }
+
+        Route join(CompactGraph graph, int spurIndex, int[] spurEdges) {
+            int[] joinedEdges = Arrays.copyOf(edges, spurIndex + spurEdges.length);
+            System.arraycopy(spurEdges, 0, joinedEdges, spurIndex, spurEdges.length);
+            int[] joinedVertices = new int[joinedEdges.length + 1];
+            joinedVertices[0] = vertices[0];
+            for (int i = 0; i < joinedEdges.length; i++) {
+                joinedVertices[i + 1] = graph.getTarget(joinedEdges[i]);
+            }
+            return new Route(graph, joinedVertices, joinedEdges);
+        }
+
+        Path toPath(CompactGraph graph) {
+            List<Station> stations = Arrays.stream(vertices)
+                    .mapToObj(graph::getStation)
+                    .collect(Collectors.toList());
+            int extraFare = Arrays.stream(edges)
+                    .map(graph::getExtraFare)
+                    .max()
+                    .orElse(0);
+            return new Path(stations, Distance.fromKilometer(distance), new Fare(extraFare));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Route route = (Route) o;
+            return Arrays.equals(sections, route.sections);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(sections);
+        }
+    }
+}
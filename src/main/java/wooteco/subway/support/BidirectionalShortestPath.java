@@ -0,0 +1,48 @@
+package wooteco.subway.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
+
+public class BidirectionalShortestPath extends CompactPathAlgorithm {
+
+    public BidirectionalShortestPath(Map<Section, Fare> edges) {
+        this(CompactGraph.from(edges));
+    }
+
+    public BidirectionalShortestPath(CompactGraph graph) {
+        super(graph);
+    }
+
+    @Override
+    protected Path findPath(int source, int target) {
+        SearchBuffer forward = SearchBuffer.acquire(graph.getVertexCount());
+        SearchBuffer backward = SearchBuffer.acquireReverse(graph.getVertexCount());
+        int meeting = Dijkstra.searchBidirectional(graph, forward, backward, source, target);
+        if (meeting < 0) {
+            checkReachable(Double.POSITIVE_INFINITY);
+        }
+        return toPath(forward, backward, meeting);
+    }
+
+    private Path toPath(SearchBuffer forward, SearchBuffer backward, int meeting) {
+        List<Station> stations = new ArrayList<>();
+        for (int vertex = meeting; vertex >= 0; vertex = forward.getPreviousVertex(vertex)) {
+            stations.add(graph.getStation(vertex));
+        }
+        Collections.reverse(stations);
+        for (int vertex = backward.getPreviousVertex(meeting); vertex >= 0;
+             vertex = backward.getPreviousVertex(vertex)) {
+            stations.add(graph.getStation(vertex));
+        }
+        Distance distance = Distance.fromKilometer(forward.getDistance(meeting) + backward.getDistance(meeting));
+        int extraFare = Math.max(forward.getExtraFare(meeting), backward.getExtraFare(meeting));
+        return new Path(stations, distance, new Fare(extraFare));
+    }
+}
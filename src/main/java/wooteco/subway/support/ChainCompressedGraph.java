@@ -0,0 +1,359 @@
+package wooteco.subway.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import wooteco.subway.domain.path.Path;
+
+final class ChainCompressedGraph {
+    private static final int NONE = -1;
+    private static final int SOURCE_TO_START = -2;
+    private static final int SOURCE_TO_END = -3;
+    private static final int START_TO_TARGET = -4;
+    private static final int END_TO_TARGET = -5;
+    private static final int SOURCE_TO_TARGET = -6;
+
+    private final CompactGraph graph;
+    private final int[] coreIndexes;
+    private final int[] coreVertices;
+    private final int[] chainIndexes;
+    private final int[] chainPositions;
+    private final int[] chainOffsets;
+    private final int[] chainVertices;
+    private final int[] chainEdges;
+    private final int[] coreOffsets;
+    private final int[] coreTargets;
+    private final double[] coreDistances;
+    private final int[] coreExtraFares;
+    private final int[] coreChains;
+
+    private ChainCompressedGraph(CompactGraph graph, Builder builder) {
+        this.graph = graph;
+        this.coreIndexes = builder.coreIndexes;
+        this.coreVertices = builder.coreVertices();
+        this.chainIndexes = builder.chainIndexes;
+        this.chainPositions = builder.chainPositions;
+        this.chainOffsets = builder.chainOffsets();
+        this.chainVertices = toArray(builder.chainVertices);
+        this.chainEdges = toArray(builder.chainEdges);
+
+        int coreCount = coreVertices.length;
+        int chainCount = chainOffsets.length - 1;
+        this.coreOffsets = new int[coreCount + 1];
+        this.coreTargets = new int[chainCount * 2];
+        this.coreDistances = new double[chainCount * 2];
+        this.coreExtraFares = new int[chainCount * 2];
+        this.coreChains = new int[chainCount * 2];
+        for (int chain = 0; chain < chainCount; chain++) {
+            coreOffsets[coreIndexes[startOf(chain)] + 1]++;
+            coreOffsets[coreIndexes[endOf(chain)] + 1]++;
+        }
+        for (int core = 0; core < coreCount; core++) {
+            coreOffsets[core + 1] += coreOffsets[core];
+        }
+        int[] cursors = Arrays.copyOf(coreOffsets, coreCount);
+        for (int chain = 0; chain < chainCount; chain++) {
+            int length = lengthOf(chain);
+            double distance = segmentDistance(chain, 0, length);
+            int extraFare = segmentExtraFare(chain, 0, length);
+            addCoreEdge(cursors, coreIndexes[startOf(chain)], coreIndexes[endOf(chain)], distance, extraFare,
+                    chain * 2);
+            addCoreEdge(cursors, coreIndexes[endOf(chain)], coreIndexes[startOf(chain)], distance, extraFare,
+                    chain * 2 + 1);
+        }
+    }
+
+    static ChainCompressedGraph from(CompactGraph graph) {
+        return new ChainCompressedGraph(graph, new Builder(graph));
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private void addCoreEdge(int[] cursors, int from, int to, double distance, int extraFare, int chain) {
+        int index = cursors[from]++;
+        coreTargets[index] = to;
+        coreDistances[index] = distance;
+        coreExtraFares[index] = extraFare;
+        coreChains[index] = chain;
+    }
+
+    int getCoreVertexCount() {
+        return coreVertices.length;
+    }
+
+    private int startOf(int chain) {
+        return chainVertices[chainOffsets[chain]];
+    }
+
+    private int endOf(int chain) {
+        return chainVertices[chainOffsets[chain + 1] - 1];
+    }
+
+    private int lengthOf(int chain) {
+        return chainOffsets[chain + 1] - chainOffsets[chain] - 1;
+    }
+
+    private int edgeOf(int chain, int position) {
+        return chainEdges[chainOffsets[chain] - chain + position];
+    }
+
+    private double segmentDistance(int chain, int from, int to) {
+        double distance = 0;
+        for (int position = Math.min(from, to); position < Math.max(from, to); position++) {
+            distance += graph.getDistance(edgeOf(chain, position));
+        }
+        return distance;
+    }
+
+    private int segmentExtraFare(int chain, int from, int to) {
+        int extraFare = 0;
+        for (int position = Math.min(from, to); position < Math.max(from, to); position++) {
+            extraFare = Math.max(extraFare, graph.getExtraFare(edgeOf(chain, position)));
+        }
+        return extraFare;
+    }
+
+    Path findPath(int source, int target) {
+        Query query = new Query(source, target);
+        SearchBuffer buffer = SearchBuffer.acquire(coreVertices.length + 2);
+        query.search(buffer);
+        if (!buffer.isSettled(query.targetVertex)) {
+            return null;
+        }
+        return query.unpack(buffer);
+    }
+
+    private class Query {
+        private final int source;
+        private final int target;
+        private final int sourceVertex;
+        private final int targetVertex;
+
+        Query(int source, int target) {
+            this.source = source;
+            this.target = target;
+            this.sourceVertex = isCore(source) ? coreIndexes[source] : coreVertices.length;
+            this.targetVertex = isCore(target) ? coreIndexes[target] : coreVertices.length + 1;
+        }
+
+        private boolean isCore(int vertex) {
+            return coreIndexes[vertex] >= 0;
+        }
+
+        void search(SearchBuffer buffer) {
+            IndexedMinHeap heap = buffer.getHeap();
+            buffer.reach(sourceVertex, 0, 0, NONE, NONE);
+            heap.offer(sourceVertex, 0);
+            while (!heap.isEmpty()) {
+                int vertex = heap.poll();
+                buffer.settle(vertex);
+                if (vertex == targetVertex) {
+                    return;
+                }
+                if (vertex == coreVertices.length) {
+                    relaxFromSource(buffer);
+                    continue;
+                }
+                for (int index = coreOffsets[vertex]; index < coreOffsets[vertex + 1]; index++) {
+                    relax(buffer, vertex, coreTargets[index], coreDistances[index], coreExtraFares[index], index);
+                }
+                relaxToTarget(buffer, vertex);
+            }
+        }
+
+        private void relaxFromSource(SearchBuffer buffer) {
+            int chain = chainIndexes[source];
+            int position = chainPositions[source];
+            int length = lengthOf(chain);
+            relax(buffer, coreVertices.length, coreIndexes[startOf(chain)], segmentDistance(chain, position, 0),
+                    segmentExtraFare(chain, position, 0), SOURCE_TO_START);
+            relax(buffer, coreVertices.length, coreIndexes[endOf(chain)], segmentDistance(chain, position, length),
+                    segmentExtraFare(chain, position, length), SOURCE_TO_END);
+            if (!isCore(target) && chainIndexes[target] == chain) {
+                int targetPosition = chainPositions[target];
+                relax(buffer, coreVertices.length, targetVertex, segmentDistance(chain, position, targetPosition),
+                        segmentExtraFare(chain, position, targetPosition), SOURCE_TO_TARGET);
+            }
+        }
+
+        private void relaxToTarget(SearchBuffer buffer, int vertex) {
+            if (isCore(target)) {
+                return;
+            }
+            int chain = chainIndexes[target];
+            int position = chainPositions[target];
+            int length = lengthOf(chain);
+            if (coreVertices[vertex] == startOf(chain)) {
+                relax(buffer, vertex, targetVertex, segmentDistance(chain, 0, position),
+                        segmentExtraFare(chain, 0, position), START_TO_TARGET);
+            }
+            if (coreVertices[vertex] == endOf(chain)) {
+                relax(buffer, vertex, targetVertex, segmentDistance(chain, length, position),
+                        segmentExtraFare(chain, length, position), END_TO_TARGET);
+            }
+        }
+
+        private void relax(SearchBuffer buffer, int vertex, int next, double distance, int extraFare, int edge) {
+            if (buffer.isSettled(next)) {
+                return;
+            }
+            double nextDistance = buffer.getDistance(vertex) + distance;
+            if (nextDistance < buffer.getDistance(next)) {
+                int nextExtraFare = Math.max(buffer.getExtraFare(vertex), extraFare);
+                buffer.reach(next, nextDistance, nextExtraFare, vertex, edge);
+                buffer.getHeap().offer(next, nextDistance);
+            }
+        }
+
+        Path unpack(SearchBuffer buffer) {
+            List<Integer> edges = new ArrayList<>();
+            for (int vertex = targetVertex; vertex != sourceVertex; vertex = buffer.getPreviousVertex(vertex)) {
+                edges.add(buffer.getPreviousEdge(vertex));
+            }
+            RouteBuilder route = new RouteBuilder(source);
+            for (int i = edges.size() - 1; i >= 0; i--) {
+                append(edges.get(i), route);
+            }
+            return route.toPath(graph);
+        }
+
+        private void append(int edge, RouteBuilder route) {
+            if (edge >= 0) {
+                int chain = coreChains[edge] / 2;
+                boolean forward = coreChains[edge] % 2 == 0;
+                appendSegment(chain, forward ? 0 : lengthOf(chain), forward ? lengthOf(chain) : 0, route);
+                return;
+            }
+            int sourceChain = chainIndexes[source];
+            int targetChain = isCore(target) ? NONE : chainIndexes[target];
+            switch (edge) {
+                case SOURCE_TO_START:
+                    appendSegment(sourceChain, chainPositions[source], 0, route);
+                    return;
+                case SOURCE_TO_END:
+                    appendSegment(sourceChain, chainPositions[source], lengthOf(sourceChain), route);
+                    return;
+                case START_TO_TARGET:
+                    appendSegment(targetChain, 0, chainPositions[target], route);
+                    return;
+                case END_TO_TARGET:
+                    appendSegment(targetChain, lengthOf(targetChain), chainPositions[target], route);
+                    return;
+                default:
+                    appendSegment(sourceChain, chainPositions[source], chainPositions[target], route);
+            }
+        }
+
+        private void appendSegment(int chain, int from, int to, RouteBuilder route) {
+            int step = from < to ? 1 : -1;
+            for (int position = from; position != to; position += step) {
+                int edge = edgeOf(chain, Math.min(position, position + step));
+                route.add(chainVertices[chainOffsets[chain] + position + step], graph.getDistance(edge),
+                        graph.getExtraFare(edge));
+            }
+        }
+    }
+
+    private static class Builder {
+        private final CompactGraph graph;
+        private final int[] coreIndexes;
+        private final int[] chainIndexes;
+        private final int[] chainPositions;
+        private final boolean[] usedSections;
+        private final List<Integer> cores = new ArrayList<>();
+        private final List<Integer> chainStarts = new ArrayList<>();
+        private final List<Integer> chainVertices = new ArrayList<>();
+        private final List<Integer> chainEdges = new ArrayList<>();
+
+        Builder(CompactGraph graph) {
+            this.graph = graph;
+            int vertexCount = graph.getVertexCount();
+            this.coreIndexes = new int[vertexCount];
+            this.chainIndexes = new int[vertexCount];
+            this.chainPositions = new int[vertexCount];
+            this.usedSections = new boolean[graph.getSectionCount()];
+            Arrays.fill(coreIndexes, NONE);
+            Arrays.fill(chainIndexes, NONE);
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                if (!isChainVertex(vertex)) {
+                    addCore(vertex);
+                }
+            }
+            for (int core = 0; core < cores.size(); core++) {
+                collectChains(cores.get(core));
+            }
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                if (coreIndexes[vertex] == NONE && chainIndexes[vertex] == NONE) {
+                    addCore(vertex);
+                    collectChains(vertex);
+                }
+            }
+        }
+
+        private boolean isChainVertex(int vertex) {
+            int first = graph.firstEdge(vertex);
+            if (graph.lastEdge(vertex) - first != 2) {
+                return false;
+            }
+            return graph.getTarget(first) != graph.getTarget(first + 1);
+        }
+
+        private void addCore(int vertex) {
+            coreIndexes[vertex] = cores.size();
+            cores.add(vertex);
+        }
+
+        private void collectChains(int core) {
+            for (int edge = graph.firstEdge(core); edge < graph.lastEdge(core); edge++) {
+                if (!usedSections[graph.getSection(edge)]) {
+                    collectChain(core, edge);
+                }
+            }
+        }
+
+        private void collectChain(int core, int firstEdge) {
+            int chain = chainStarts.size();
+            chainStarts.add(chainVertices.size());
+            chainVertices.add(core);
+            int edge = firstEdge;
+            while (true) {
+                usedSections[graph.getSection(edge)] = true;
+                chainEdges.add(edge);
+                int vertex = graph.getTarget(edge);
+                if (coreIndexes[vertex] != NONE) {
+                    chainVertices.add(vertex);
+                    return;
+                }
+                chainIndexes[vertex] = chain;
+                chainPositions[vertex] = chainVertices.size() - chainStarts.get(chain);
+                chainVertices.add(vertex);
+                edge = nextEdge(vertex, graph.getSection(edge));
+            }
+        }
+
+        private int nextEdge(int vertex, int section) {
+            int first = graph.firstEdge(vertex);
+            if (graph.getSection(first) == section) {
+                return first + 1;
+            }
+            return first;
+        }
+
+        int[] coreVertices() {
+            return toArray(cores);
+        }
+
+        int[] chainOffsets() {
+            int[] offsets = new int[chainStarts.size() + 1];
+            for (int chain = 0; chain < chainStarts.size(); chain++) {
+                offsets[chain] = chainStarts.get(chain);
+            }
+            offsets[chainStarts.size()] = chainVertices.size();
+            return offsets;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package wooteco.subway.support;
+
+import java.util.Map;
+import java.util.Objects;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.section.Section;
+
+public class ChainCompressedShortestPath extends CompactShortestPath {
+    private final ChainCompressedGraph compressedGraph;
+
+    public ChainCompressedShortestPath(Map<Section, Fare> edges) {
+        this(CompactGraph.from(edges));
+    }
+
+    public ChainCompressedShortestPath(CompactGraph graph) {
+        super(graph);
+        this.compressedGraph = ChainCompressedGraph.from(graph);
+    }
+
+    @Override
+    protected Path findPath(int source, int target) {
+        Path path = compressedGraph.findPath(source, target);
+        if (Objects.isNull(path)) {
+            checkReachable(Double.POSITIVE_INFINITY);
+        }
+        return path;
+    }
+
+    public int getCoreVertexCount() {
+        return compressedGraph.getCoreVertexCount();
+    }
+}
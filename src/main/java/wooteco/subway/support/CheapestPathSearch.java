@@ -0,0 +1,79 @@
+package wooteco.subway.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.DistanceFare;
+
+final class CheapestPathSearch {
+    private static final int NOT_FOUND = -1;
+
+    private CheapestPathSearch() {
+    }
+
+    static Path search(CompactGraph graph, int source, int target) {
+        LabelBuffer labels = LabelBuffer.acquire(graph.getVertexCount());
+        labels.push(source, 0, 0, NOT_FOUND);
+        int bestLabel = NOT_FOUND;
+        int bestFare = Integer.MAX_VALUE;
+        while (!labels.isEmpty()) {
+            int label = labels.poll();
+            double distance = labels.getDistance(label);
+            if (bestLabel != NOT_FOUND && calculateFare(distance, 0) >= bestFare) {
+                break;
+            }
+            if (!labels.settle(label)) {
+                continue;
+            }
+            int vertex = labels.getVertex(label);
+            if (vertex == target) {
+                int fare = calculateFare(distance, labels.getExtraFare(label));
+                if (fare < bestFare) {
+                    bestLabel = label;
+                    bestFare = fare;
+                }
+                continue;
+            }
+            expand(graph, labels, label);
+        }
+        checkFound(bestLabel);
+        return toPath(graph, labels, bestLabel);
+    }
+
+    private static void expand(CompactGraph graph, LabelBuffer labels, int label) {
+        int vertex = labels.getVertex(label);
+        double distance = labels.getDistance(label);
+        int extraFare = labels.getExtraFare(label);
+        for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+            int next = graph.getTarget(edge);
+            int nextExtraFare = Math.max(extraFare, graph.getExtraFare(edge));
+            if (!labels.isDominated(next, nextExtraFare)) {
+                labels.push(next, distance + graph.getDistance(edge), nextExtraFare, label);
+            }
+        }
+    }
+
+    private static int calculateFare(double distance, int extraFare) {
+        return DistanceFare.calculateFare(distance) + extraFare;
+    }
+
+    private static void checkFound(int label) {
+        if (label == NOT_FOUND) {
+            throw new IllegalStateException("해당하는 경로가 존재하지 않습니다.");
+        }
+    }
+
+    private static Path toPath(CompactGraph graph, LabelBuffer labels, int target) {
+        List<Station> stations = new ArrayList<>();
+        for (int label = target; label != NOT_FOUND; label = labels.getParent(label)) {
+            stations.add(graph.getStation(labels.getVertex(label)));
+        }
+        Collections.reverse(stations);
+        Distance distance = Distance.fromKilometer(labels.getDistance(target));
+        return new Path(stations, distance, new Fare(labels.getExtraFare(target)));
+    }
+}
@@ -0,0 +1,422 @@
+package wooteco.subway.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.NetworkDelta;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
+
+public class CompactGraph {
+    private static final int PAGE_BITS = 10;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int MIN_COMPACTION_EDGES = 1024;
+    private static final long NO_ID = -1;
+
+    private final Station[] stations;
+    private final long[] stationIds;
+    private final Station[] addedStations;
+    private final Map<Long, Integer> addedVertices;
+    private final int[][] firstEdges;
+    private final int[][] lastEdges;
+    private final EdgePool pool;
+    private final int edgeLimit;
+    private final int sectionCount;
+    private final int liveEdgeCount;
+    private final int[] targets;
+    private final double[] distances;
+    private final int[] extraFares;
+    private final int[] sections;
+    private final long[] sectionIds;
+
+    private CompactGraph(Station[] stations, long[] stationIds, Station[] addedStations,
+                         Map<Long, Integer> addedVertices, int[][] firstEdges, int[][] lastEdges, EdgePool pool,
+                         int liveEdgeCount) {
+        this.stations = stations;
+        this.stationIds = stationIds;
+        this.addedStations = addedStations;
+        this.addedVertices = addedVertices;
+        this.firstEdges = firstEdges;
+        this.lastEdges = lastEdges;
+        this.pool = pool;
+        this.edgeLimit = pool.size;
+        this.sectionCount = pool.sectionCount;
+        this.liveEdgeCount = liveEdgeCount;
+        this.targets = pool.targets;
+        this.distances = pool.distances;
+        this.extraFares = pool.extraFares;
+        this.sections = pool.sections;
+        this.sectionIds = pool.sectionIds;
+    }
+
+    private static long[] toIds(Station[] stations) {
+        long[] ids = new long[stations.length];
+        for (int i = 0; i < stations.length; i++) {
+            ids[i] = stations[i].getId();
+        }
+        return ids;
+    }
+
+    public static CompactGraph from(Map<Section, Fare> edges) {
+        Station[] stations = extractStations(edges);
+        long[] ids = toIds(stations);
+        int[] offsets = new int[stations.length + 1];
+        for (Section section : edges.keySet()) {
+            offsets[indexOf(ids, section.getUpStation()) + 1]++;
+            offsets[indexOf(ids, section.getDownStation()) + 1]++;
+        }
+        for (int i = 0; i < stations.length; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] cursors = Arrays.copyOf(offsets, stations.length);
+        EdgePool pool = new EdgePool(offsets[stations.length], edges.size());
+        for (Entry<Section, Fare> edge : edges.entrySet()) {
+            Section section = edge.getKey();
+            int up = indexOf(ids, section.getUpStation());
+            int down = indexOf(ids, section.getDownStation());
+            int extraFare = edge.getValue().getValue();
+            int sectionIndex = pool.addSection(section.getId());
+            pool.put(cursors[up]++, down, section.getDistance(), extraFare, sectionIndex);
+            pool.put(cursors[down]++, up, section.getDistance(), extraFare, sectionIndex);
+        }
+        pool.size = offsets[stations.length];
+
+        int[][] firstEdges = new int[pageCount(stations.length)][];
+        int[][] lastEdges = new int[firstEdges.length][];
+        for (int page = 0; page < firstEdges.length; page++) {
+            firstEdges[page] = new int[PAGE_SIZE];
+            lastEdges[page] = new int[PAGE_SIZE];
+        }
+        for (int vertex = 0; vertex < stations.length; vertex++) {
+            firstEdges[vertex >>> PAGE_BITS][vertex & PAGE_MASK] = offsets[vertex];
+            lastEdges[vertex >>> PAGE_BITS][vertex & PAGE_MASK] = offsets[vertex + 1];
+        }
+        return new CompactGraph(stations, ids, new Station[0], Map.of(), firstEdges, lastEdges, pool, pool.size);
+    }
+
+    private static int pageCount(int vertexCount) {
+        return (vertexCount + PAGE_SIZE - 1) >>> PAGE_BITS;
+    }
+
+    private static Station[] extractStations(Map<Section, Fare> edges) {
+        Map<Long, Station> stations = new TreeMap<>();
+        for (Section section : edges.keySet()) {
+            stations.putIfAbsent(section.getUpStationId(), section.getUpStation());
+            stations.putIfAbsent(section.getDownStationId(), section.getDownStation());
+        }
+        return stations.values().toArray(new Station[0]);
+    }
+
+    private static int indexOf(long[] ids, Station station) {
+        if (Objects.isNull(station) || Objects.isNull(station.getId())) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(ids, station.getId());
+        if (index < 0) {
+            return -1;
+        }
+        return index;
+    }
+
+    public CompactGraph apply(NetworkDelta delta) {
+        if (delta.isEmpty()) {
+            return this;
+        }
+        if (pool.size != edgeLimit || pool.sectionCount != sectionCount || needsCompaction(delta)) {
+            return from(applyTo(toEdges(), delta));
+        }
+        return new DeltaWriter(delta).write();
+    }
+
+    private boolean needsCompaction(NetworkDelta delta) {
+        int garbage = edgeLimit - liveEdgeCount;
+        return garbage + delta.size() * 2 > Math.max(MIN_COMPACTION_EDGES, liveEdgeCount)
+                || addedStations.length + delta.getAddedSections().size() * 2 > PAGE_SIZE;
+    }
+
+    public Map<Section, Fare> toEdges() {
+        Map<Section, Fare> edges = new LinkedHashMap<>();
+        boolean[] collected = new boolean[sectionCount];
+        for (int vertex = 0; vertex < getVertexCount(); vertex++) {
+            for (int edge = firstEdge(vertex); edge < lastEdge(vertex); edge++) {
+                int section = sections[edge];
+                if (collected[section]) {
+                    continue;
+                }
+                collected[section] = true;
+                Long id = sectionIds[section] == NO_ID ? null : sectionIds[section];
+                Section restored = new Section(id, getStation(vertex), getStation(targets[edge]),
+                        Distance.fromKilometer(distances[edge]));
+                edges.put(restored, new Fare(extraFares[edge]));
+            }
+        }
+        return edges;
+    }
+
+    private static Map<Section, Fare> applyTo(Map<Section, Fare> edges, NetworkDelta delta) {
+        Set<Long> replacedIds = new HashSet<>();
+        delta.getRemovedSections().forEach(section -> replacedIds.add(section.getId()));
+        delta.getReweightedSections().keySet().forEach(section -> replacedIds.add(section.getId()));
+
+        Map<Section, Fare> applied = new LinkedHashMap<>();
+        for (Entry<Section, Fare> edge : edges.entrySet()) {
+            Long id = edge.getKey().getId();
+            if (Objects.isNull(id) || !replacedIds.contains(id)) {
+                applied.put(edge.getKey(), edge.getValue());
+            }
+        }
+        applied.putAll(delta.getReweightedSections());
+        applied.putAll(delta.getAddedSections());
+        return applied;
+    }
+
+    public int indexOf(Station station) {
+        int vertex = findVertex(station);
+        if (vertex < 0 || firstEdge(vertex) == lastEdge(vertex)) {
+            return -1;
+        }
+        return vertex;
+    }
+
+    private int findVertex(Station station) {
+        int vertex = indexOf(stationIds, station);
+        if (vertex >= 0 || addedVertices.isEmpty() || Objects.isNull(station)) {
+            return vertex;
+        }
+        return addedVertices.getOrDefault(station.getId(), -1);
+    }
+
+    public int getVertexCount() {
+        return stations.length + addedStations.length;
+    }
+
+    public int getEdgeCount() {
+        return liveEdgeCount;
+    }
+
+    int getSectionCount() {
+        return sectionCount;
+    }
+
+    public Station getStation(int vertex) {
+        if (vertex < stations.length) {
+            return stations[vertex];
+        }
+        return addedStations[vertex - stations.length];
+    }
+
+    int firstEdge(int vertex) {
+        return firstEdges[vertex >>> PAGE_BITS][vertex & PAGE_MASK];
+    }
+
+    int lastEdge(int vertex) {
+        return lastEdges[vertex >>> PAGE_BITS][vertex & PAGE_MASK];
+    }
+
+    int getTarget(int edge) {
+        return targets[edge];
+    }
+
+    double getDistance(int edge) {
+        return distances[edge];
+    }
+
+    int getExtraFare(int edge) {
+        return extraFares[edge];
+    }
+
+    int getSection(int edge) {
+        return sections[edge];
+    }
+
+    private class DeltaWriter {
+        private final NetworkDelta delta;
+        private final Set<Long> replacedIds = new HashSet<>();
+        private final Map<Integer, List<long[]>> additions = new LinkedHashMap<>();
+        private final Set<Integer> touchedVertices = new HashSet<>();
+        private Station[] nextAddedStations = addedStations;
+        private Map<Long, Integer> nextAddedVertices = addedVertices;
+
+        DeltaWriter(NetworkDelta delta) {
+            this.delta = delta;
+        }
+
+        CompactGraph write() {
+            for (Section section : delta.getRemovedSections()) {
+                replacedIds.add(section.getId());
+                touch(section);
+            }
+            for (Entry<Section, Fare> edge : delta.getReweightedSections().entrySet()) {
+                replacedIds.add(edge.getKey().getId());
+                touch(edge.getKey());
+                addEdges(edge.getKey(), edge.getValue(), findSectionIndex(edge.getKey()));
+            }
+            for (Entry<Section, Fare> edge : delta.getAddedSections().entrySet()) {
+                addEdges(edge.getKey(), edge.getValue(), pool.addSection(edge.getKey().getId()));
+            }
+
+            int vertexCount = stations.length + nextAddedStations.length;
+            int[][] nextFirstEdges = Arrays.copyOf(firstEdges, pageCount(vertexCount));
+            int[][] nextLastEdges = Arrays.copyOf(lastEdges, nextFirstEdges.length);
+            Set<Integer> copiedPages = new HashSet<>();
+            int nextLiveEdgeCount = liveEdgeCount;
+            for (int vertex : touchedVertices) {
+                int page = vertex >>> PAGE_BITS;
+                if (copiedPages.add(page)) {
+                    nextFirstEdges[page] = copyPage(nextFirstEdges[page]);
+                    nextLastEdges[page] = copyPage(nextLastEdges[page]);
+                }
+                int first = pool.size;
+                int last = rewrite(vertex);
+                nextFirstEdges[page][vertex & PAGE_MASK] = first;
+                nextLastEdges[page][vertex & PAGE_MASK] = last;
+                nextLiveEdgeCount += (last - first) - (currentLastEdge(vertex) - currentFirstEdge(vertex));
+            }
+            return new CompactGraph(stations, stationIds, nextAddedStations, nextAddedVertices, nextFirstEdges,
+                    nextLastEdges, pool, nextLiveEdgeCount);
+        }
+
+        private int[] copyPage(int[] page) {
+            if (Objects.isNull(page)) {
+                return new int[PAGE_SIZE];
+            }
+            return page.clone();
+        }
+
+        private void touch(Section section) {
+            int up = findVertex(section.getUpStation());
+            int down = findVertex(section.getDownStation());
+            if (up >= 0) {
+                touchedVertices.add(up);
+            }
+            if (down >= 0) {
+                touchedVertices.add(down);
+            }
+        }
+
+        private int findSectionIndex(Section section) {
+            int vertex = findVertex(section.getUpStation());
+            for (int edge = currentFirstEdge(vertex); vertex >= 0 && edge < currentLastEdge(vertex); edge++) {
+                if (Objects.equals(sectionIds[sections[edge]], section.getId())) {
+                    return sections[edge];
+                }
+            }
+            return pool.addSection(section.getId());
+        }
+
+        private void addEdges(Section section, Fare extraFare, int sectionIndex) {
+            int up = vertexOf(section.getUpStation());
+            int down = vertexOf(section.getDownStation());
+            long distanceBits = Double.doubleToLongBits(section.getDistance());
+            additions.computeIfAbsent(up, vertex -> new ArrayList<>())
+                    .add(new long[]{down, distanceBits, extraFare.getValue(), sectionIndex});
+            additions.computeIfAbsent(down, vertex -> new ArrayList<>())
+                    .add(new long[]{up, distanceBits, extraFare.getValue(), sectionIndex});
+            touchedVertices.add(up);
+            touchedVertices.add(down);
+        }
+
+        private int vertexOf(Station station) {
+            int vertex = findVertex(station);
+            if (vertex >= 0) {
+                return vertex;
+            }
+            Integer added = nextAddedVertices.get(station.getId());
+            if (Objects.nonNull(added)) {
+                return added;
+            }
+            vertex = stations.length + nextAddedStations.length;
+            nextAddedStations = Arrays.copyOf(nextAddedStations, nextAddedStations.length + 1);
+            nextAddedStations[nextAddedStations.length - 1] = station;
+            nextAddedVertices = new HashMap<>(nextAddedVertices);
+            nextAddedVertices.put(station.getId(), vertex);
+            return vertex;
+        }
+
+        private int currentFirstEdge(int vertex) {
+            if (vertex >= getVertexCount()) {
+                return 0;
+            }
+            return firstEdge(vertex);
+        }
+
+        private int currentLastEdge(int vertex) {
+            if (vertex >= getVertexCount()) {
+                return 0;
+            }
+            return lastEdge(vertex);
+        }
+
+        private int rewrite(int vertex) {
+            List<long[]> added = additions.getOrDefault(vertex, List.of());
+            pool.ensureCapacity(currentLastEdge(vertex) - currentFirstEdge(vertex) + added.size());
+            for (int edge = currentFirstEdge(vertex); edge < currentLastEdge(vertex); edge++) {
+                if (!replacedIds.contains(sectionIds[sections[edge]])) {
+                    pool.put(pool.size++, targets[edge], distances[edge], extraFares[edge], sections[edge]);
+                }
+            }
+            for (long[] edge : added) {
+                pool.put(pool.size++, (int) edge[0], Double.longBitsToDouble(edge[1]), (int) edge[2],
+                        (int) edge[3]);
+            }
+            return pool.size;
+        }
+    }
+
+    private static class EdgePool {
+        private int[] targets;
+        private double[] distances;
+        private int[] extraFares;
+        private int[] sections;
+        private long[] sectionIds;
+        private int size;
+        private int sectionCount;
+
+        EdgePool(int edgeCapacity, int sectionCapacity) {
+            this.targets = new int[edgeCapacity];
+            this.distances = new double[edgeCapacity];
+            this.extraFares = new int[edgeCapacity];
+            this.sections = new int[edgeCapacity];
+            this.sectionIds = new long[sectionCapacity];
+        }
+
+        void ensureCapacity(int additionalEdges) {
+            int required = size + additionalEdges;
+            if (required <= targets.length) {
+                return;
+            }
+            int capacity = Math.max(required, targets.length + (targets.length >> 1) + 16);
+            targets = Arrays.copyOf(targets, capacity);
+            distances = Arrays.copyOf(distances, capacity);
+            extraFares = Arrays.copyOf(extraFares, capacity);
+            sections = Arrays.copyOf(sections, capacity);
+        }
+
+        int addSection(Long id) {
+            if (sectionCount == sectionIds.length) {
+                sectionIds = Arrays.copyOf(sectionIds, sectionCount + (sectionCount >> 1) + 16);
+            }
+            sectionIds[sectionCount] = Objects.isNull(id) ? NO_ID : id;
+            return sectionCount++;
+        }
+
+        void put(int edge, int target, double distance, int extraFare, int section) {
+            targets[edge] = target;
+            distances[edge] = distance;
+            extraFares[edge] = extraFare;
+            sections[edge] = section;
+        }
+    }
+}
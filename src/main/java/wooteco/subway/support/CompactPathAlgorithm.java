@@ -0,0 +1,92 @@
+package wooteco.subway.support;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.Destination;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.PathAlgorithm;
+import wooteco.subway.domain.path.PathBudget;
+import wooteco.subway.domain.section.Distance;
+
+abstract class CompactPathAlgorithm implements PathAlgorithm {
+    protected final CompactGraph graph;
+
+    protected CompactPathAlgorithm(CompactGraph graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public Path getPath(Station source, Station target) {
+        checkStations(source, target);
+        return findPath(findVertex(source), findVertex(target));
+    }
+
+    protected abstract Path findPath(int source, int target);
+
+    @Override
+    public Path getCheapestPath(Station source, Station target) {
+        checkStations(source, target);
+        return CheapestPathSearch.search(graph, findVertex(source), findVertex(target));
+    }
+
+    @Override
+    public List<Path> getAlternativePaths(Station source, Station target, int maxCount, double maxDetourRatio) {
+        checkStations(source, target);
+        return AlternativePathSearch.search(graph, findVertex(source), findVertex(target), maxCount, maxDetourRatio);
+    }
+
+    @Override
+    public void forEachDestination(Station source, PathBudget budget, Consumer<Destination> consumer) {
+        if (Objects.isNull(source)) {
+            throw new IllegalArgumentException("출발역은 필수입니다.");
+        }
+        int sourceVertex = findVertex(source);
+        SearchBuffer buffer = SearchBuffer.acquire(graph.getVertexCount());
+        Dijkstra.searchWithin(graph, buffer, sourceVertex, budget, vertex -> {
+            if (vertex == sourceVertex) {
+                return;
+            }
+            Distance distance = Distance.fromKilometer(buffer.getDistance(vertex));
+            Fare extraFare = new Fare(buffer.getExtraFare(vertex));
+            consumer.accept(new Destination(graph.getStation(vertex), distance, extraFare));
+        });
+    }
+
+    protected void checkStations(Station source, Station target) {
+        checkNull(source, target);
+        checkEquals(source, target);
+    }
+
+    private void checkNull(Station source, Station target) {
+        if (Objects.isNull(source) || Objects.isNull(target)) {
+            throw new IllegalArgumentException("출발역과 도착역은 모두 필수입니다.");
+        }
+    }
+
+    private void checkEquals(Station source, Station target) {
+        if (Objects.equals(source, target)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같아 경로를 찾을 수 없습니다.");
+        }
+    }
+
+    protected int findVertex(Station station) {
+        int vertex = graph.indexOf(station);
+        if (vertex < 0) {
+            throw new IllegalArgumentException("해당 역은 경로에 존재하지 않습니다.");
+        }
+        return vertex;
+    }
+
+    protected void checkReachable(double distance) {
+        if (Double.isInfinite(distance)) {
+            throw new IllegalStateException("해당하는 경로가 존재하지 않습니다.");
+        }
+    }
+
+    public CompactGraph getGraph() {
+        return graph;
+    }
+}
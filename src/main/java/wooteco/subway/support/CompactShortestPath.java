@@ -0,0 +1,60 @@
+package wooteco.subway.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
+
+public class CompactShortestPath extends CompactPathAlgorithm {
+
+    public CompactShortestPath(Map<Section, Fare> edges) {
+        this(CompactGraph.from(edges));
+    }
+
+    public CompactShortestPath(CompactGraph graph) {
+        super(graph);
+    }
+
+    @Override
+    protected Path findPath(int source, int target) {
+        SearchBuffer buffer = SearchBuffer.acquire(graph.getVertexCount());
+        Dijkstra.search(graph, buffer, source, target);
+        checkReachable(buffer.getDistance(target));
+        return toPath(buffer, source, target);
+    }
+
+    @Override
+    public List<Path> getPaths(Station source, List<Station> targets) {
+        int[] targetVertices = new int[targets.size()];
+        for (int i = 0; i < targetVertices.length; i++) {
+            checkStations(source, targets.get(i));
+            targetVertices[i] = findVertex(targets.get(i));
+        }
+        int sourceVertex = findVertex(source);
+
+        SearchBuffer buffer = SearchBuffer.acquire(graph.getVertexCount());
+        Dijkstra.search(graph, buffer, sourceVertex, Dijkstra.ALL_VERTICES);
+        List<Path> paths = new ArrayList<>(targetVertices.length);
+        for (int targetVertex : targetVertices) {
+            checkReachable(buffer.getDistance(targetVertex));
+            paths.add(toPath(buffer, sourceVertex, targetVertex));
+        }
+        return paths;
+    }
+
+    private Path toPath(SearchBuffer buffer, int source, int target) {
+        List<Station> stations = new ArrayList<>();
+        for (int vertex = target; vertex != source; vertex = buffer.getPreviousVertex(vertex)) {
+            stations.add(graph.getStation(vertex));
+        }
+        stations.add(graph.getStation(source));
+        Collections.reverse(stations);
+        Distance distance = Distance.fromKilometer(buffer.getDistance(target));
+        return new Path(stations, distance, new Fare(buffer.getExtraFare(target)));
+    }
+}
@@ -0,0 +1,432 @@
+package wooteco.subway.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import wooteco.subway.domain.path.Path;
+
+final class ContractionHierarchy {
+    private static final int ORIGINAL = -1;
+
+    private final CompactGraph graph;
+    private final int[] firstVertices;
+    private final int[] secondVertices;
+    private final double[] distances;
+    private final int[] extraFares;
+    private final int[] middleVertices;
+    private final int[] firstChildren;
+    private final int[] secondChildren;
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final int[] upEdges;
+
+    private ContractionHierarchy(CompactGraph graph, Builder builder, int[] ranks) {
+        this.graph = graph;
+        int edgeCount = builder.edgeCount;
+        this.firstVertices = Arrays.copyOf(builder.firstVertices, edgeCount);
+        this.secondVertices = Arrays.copyOf(builder.secondVertices, edgeCount);
+        this.distances = Arrays.copyOf(builder.distances, edgeCount);
+        this.extraFares = Arrays.copyOf(builder.extraFares, edgeCount);
+        this.middleVertices = Arrays.copyOf(builder.middleVertices, edgeCount);
+        this.firstChildren = Arrays.copyOf(builder.firstChildren, edgeCount);
+        this.secondChildren = Arrays.copyOf(builder.secondChildren, edgeCount);
+
+        int vertexCount = graph.getVertexCount();
+        this.upOffsets = new int[vertexCount + 1];
+        this.upTargets = new int[edgeCount];
+        this.upEdges = new int[edgeCount];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            upOffsets[lowerVertex(edge, ranks) + 1]++;
+        }
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            upOffsets[vertex + 1] += upOffsets[vertex];
+        }
+        int[] cursors = Arrays.copyOf(upOffsets, vertexCount);
+        for (int edge = 0; edge < edgeCount; edge++) {
+            int lower = lowerVertex(edge, ranks);
+            int index = cursors[lower]++;
+            upTargets[index] = opposite(edge, lower);
+            upEdges[index] = edge;
+        }
+    }
+
+    static ContractionHierarchy build(CompactGraph graph) {
+        return build(graph, () -> false);
+    }
+
+    static ContractionHierarchy build(CompactGraph graph, BooleanSupplier cancelled) {
+        Builder builder = new Builder(graph);
+        return new ContractionHierarchy(graph, builder, builder.contractAll(cancelled));
+    }
+
+    private int lowerVertex(int edge, int[] ranks) {
+        if (ranks[firstVertices[edge]] < ranks[secondVertices[edge]]) {
+            return firstVertices[edge];
+        }
+        return secondVertices[edge];
+    }
+
+    private int opposite(int edge, int vertex) {
+        if (firstVertices[edge] == vertex) {
+            return secondVertices[edge];
+        }
+        return firstVertices[edge];
+    }
+
+    Path findPath(int source, int target) {
+        SearchBuffer forward = SearchBuffer.acquire(graph.getVertexCount());
+        SearchBuffer backward = SearchBuffer.acquireReverse(graph.getVertexCount());
+        int meeting = search(forward, backward, source, target);
+        if (meeting < 0) {
+            return null;
+        }
+        return unpack(forward, backward, source, meeting);
+    }
+
+    private int search(SearchBuffer forward, SearchBuffer backward, int source, int target) {
+        forward.reach(source, 0, 0, -1, -1);
+        forward.getHeap().offer(source, 0);
+        backward.reach(target, 0, 0, -1, -1);
+        backward.getHeap().offer(target, 0);
+        double best = Double.POSITIVE_INFINITY;
+        int meeting = -1;
+        boolean forwardTurn = true;
+        while (isActive(forward, best) || isActive(backward, best)) {
+            if (!isActive(forward, best)) {
+                forwardTurn = false;
+            } else if (!isActive(backward, best)) {
+                forwardTurn = true;
+            }
+            SearchBuffer buffer = forwardTurn ? forward : backward;
+            SearchBuffer opposite = forwardTurn ? backward : forward;
+            forwardTurn = !forwardTurn;
+
+            int vertex = buffer.getHeap().poll();
+            buffer.settle(vertex);
+            double distance = buffer.getDistance(vertex);
+            if (distance + opposite.getDistance(vertex) < best) {
+                best = distance + opposite.getDistance(vertex);
+                meeting = vertex;
+            }
+            if (isStalled(buffer, vertex, distance)) {
+                continue;
+            }
+            for (int index = upOffsets[vertex]; index < upOffsets[vertex + 1]; index++) {
+                int next = upTargets[index];
+                int edge = upEdges[index];
+                double nextDistance = distance + distances[edge];
+                if (nextDistance < buffer.getDistance(next)) {
+                    buffer.reach(next, nextDistance, 0, vertex, edge);
+                    buffer.getHeap().offer(next, nextDistance);
+                }
+            }
+        }
+        return meeting;
+    }
+
+    private boolean isStalled(SearchBuffer buffer, int vertex, double distance) {
+        for (int index = upOffsets[vertex]; index < upOffsets[vertex + 1]; index++) {
+            if (buffer.getDistance(upTargets[index]) + distances[upEdges[index]] < distance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isActive(SearchBuffer buffer, double best) {
+        return !buffer.getHeap().isEmpty() && buffer.getHeap().peekKey() < best;
+    }
+
+    private Path unpack(SearchBuffer forward, SearchBuffer backward, int source, int meeting) {
+        List<Integer> forwardEdges = new ArrayList<>();
+        List<Integer> forwardVertices = new ArrayList<>();
+        for (int vertex = meeting; vertex != source; vertex = forward.getPreviousVertex(vertex)) {
+            forwardEdges.add(forward.getPreviousEdge(vertex));
+            forwardVertices.add(forward.getPreviousVertex(vertex));
+        }
+
+        RouteBuilder route = new RouteBuilder(source);
+        for (int i = forwardEdges.size() - 1; i >= 0; i--) {
+            unpack(forwardEdges.get(i), forwardVertices.get(i), route);
+        }
+        for (int vertex = meeting; backward.getPreviousVertex(vertex) >= 0;
+             vertex = backward.getPreviousVertex(vertex)) {
+            unpack(backward.getPreviousEdge(vertex), vertex, route);
+        }
+        return route.toPath(graph);
+    }
+
+    private void unpack(int shortcut, int from, RouteBuilder route) {
+        int[] edges = new int[16];
+        int[] froms = new int[16];
+        int size = 0;
+        edges[size] = shortcut;
+        froms[size++] = from;
+        while (size > 0) {
+            int edge = edges[--size];
+            int vertex = froms[size];
+            if (middleVertices[edge] == ORIGINAL) {
+                route.add(opposite(edge, vertex), distances[edge], extraFares[edge]);
+                continue;
+            }
+            if (size + 2 > edges.length) {
+                edges = Arrays.copyOf(edges, edges.length * 2);
+                froms = Arrays.copyOf(froms, froms.length * 2);
+            }
+            int middle = middleVertices[edge];
+            int first = firstVertices[edge] == vertex ? firstChildren[edge] : secondChildren[edge];
+            int second = firstVertices[edge] == vertex ? secondChildren[edge] : firstChildren[edge];
+            edges[size] = second;
+            froms[size++] = middle;
+            edges[size] = first;
+            froms[size++] = vertex;
+        }
+    }
+
+    private static class Builder {
+        private static final int SIMULATION_SETTLE_LIMIT = 50;
+        private static final int CONTRACTION_SETTLE_LIMIT = 500;
+
+        private final int vertexCount;
+        private int edgeCount;
+        private int[] firstVertices = new int[16];
+        private int[] secondVertices = new int[16];
+        private double[] distances = new double[16];
+        private int[] extraFares = new int[16];
+        private int[] middleVertices = new int[16];
+        private int[] firstChildren = new int[16];
+        private int[] secondChildren = new int[16];
+
+        private final int[][] incidentEdges;
+        private final int[] incidentCounts;
+        private final boolean[] contracted;
+        private final int[] contractedNeighbors;
+        private final int[] levels;
+
+        private int[] neighbors = new int[16];
+        private int[] neighborEdges = new int[16];
+        private int neighborCount;
+
+        private final double[] witnessDistances;
+        private final int[] witnessStamps;
+        private final IndexedMinHeap witnessHeap = new IndexedMinHeap();
+        private int witnessStamp;
+
+        Builder(CompactGraph graph) {
+            this.vertexCount = graph.getVertexCount();
+            this.incidentEdges = new int[vertexCount][];
+            this.incidentCounts = new int[vertexCount];
+            this.contracted = new boolean[vertexCount];
+            this.contractedNeighbors = new int[vertexCount];
+            this.levels = new int[vertexCount];
+            this.witnessDistances = new double[vertexCount];
+            this.witnessStamps = new int[vertexCount];
+            witnessHeap.ensureCapacity(vertexCount);
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                incidentEdges[vertex] = new int[graph.lastEdge(vertex) - graph.firstEdge(vertex) + 1];
+            }
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+                    int target = graph.getTarget(edge);
+                    if (vertex < target) {
+                        addEdge(vertex, target, graph.getDistance(edge), graph.getExtraFare(edge),
+                                ORIGINAL, ORIGINAL, ORIGINAL);
+                    }
+                }
+            }
+        }
+
+        int[] contractAll(BooleanSupplier cancelled) {
+            IndexedMinHeap queue = new IndexedMinHeap();
+            queue.ensureCapacity(vertexCount);
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                queue.offer(vertex, priority(vertex));
+            }
+            int[] ranks = new int[vertexCount];
+            int rank = 0;
+            while (!queue.isEmpty()) {
+                if (cancelled.getAsBoolean()) {
+                    throw new CancellationException();
+                }
+                int vertex = queue.poll();
+                double priority = priority(vertex);
+                if (!queue.isEmpty() && priority > queue.peekKey()) {
+                    queue.offer(vertex, priority);
+                    continue;
+                }
+                contract(vertex, true);
+                contracted[vertex] = true;
+                ranks[vertex] = rank++;
+                for (int i = 0; i < neighborCount; i++) {
+                    int neighbor = neighbors[i];
+                    contractedNeighbors[neighbor]++;
+                    levels[neighbor] = Math.max(levels[neighbor], levels[vertex] + 1);
+                    removeContractedEdges(neighbor);
+                }
+            }
+            return ranks;
+        }
+
+        private double priority(int vertex) {
+            int shortcuts = contract(vertex, false);
+            return 2 * shortcuts - neighborCount + contractedNeighbors[vertex] + levels[vertex];
+        }
+
+        private void removeContractedEdges(int vertex) {
+            int count = 0;
+            for (int i = 0; i < incidentCounts[vertex]; i++) {
+                int edge = incidentEdges[vertex][i];
+                int neighbor = firstVertices[edge] == vertex ? secondVertices[edge] : firstVertices[edge];
+                if (!contracted[neighbor]) {
+                    incidentEdges[vertex][count++] = edge;
+                }
+            }
+            incidentCounts[vertex] = count;
+        }
+
+        private int contract(int vertex, boolean addShortcuts) {
+            collectNeighbors(vertex);
+            int settleLimit = addShortcuts ? CONTRACTION_SETTLE_LIMIT : SIMULATION_SETTLE_LIMIT;
+            int shortcuts = 0;
+            List<int[]> shortcutEdges = new ArrayList<>();
+            for (int i = 0; i < neighborCount - 1; i++) {
+                double maxVia = 0;
+                for (int j = i + 1; j < neighborCount; j++) {
+                    maxVia = Math.max(maxVia, distances[neighborEdges[j]]);
+                }
+                searchWitness(neighbors[i], vertex, distances[neighborEdges[i]] + maxVia, settleLimit);
+                for (int j = i + 1; j < neighborCount; j++) {
+                    double via = distances[neighborEdges[i]] + distances[neighborEdges[j]];
+                    if (witnessDistance(neighbors[j]) <= via) {
+                        continue;
+                    }
+                    shortcuts++;
+                    if (addShortcuts) {
+                        shortcutEdges.add(new int[]{neighbors[i], neighbors[j], neighborEdges[i], neighborEdges[j]});
+                    }
+                }
+            }
+            for (int[] shortcut : shortcutEdges) {
+                int first = shortcut[2];
+                int second = shortcut[3];
+                addEdge(shortcut[0], shortcut[1], distances[first] + distances[second],
+                        Math.max(extraFares[first], extraFares[second]), vertex, first, second);
+            }
+            return shortcuts;
+        }
+
+        private void collectNeighbors(int vertex) {
+            neighborCount = 0;
+            for (int i = 0; i < incidentCounts[vertex]; i++) {
+                int edge = incidentEdges[vertex][i];
+                int neighbor = firstVertices[edge] == vertex ? secondVertices[edge] : firstVertices[edge];
+                if (contracted[neighbor]) {
+                    continue;
+                }
+                int index = indexOfNeighbor(neighbor);
+                if (index < 0) {
+                    addNeighbor(neighbor, edge);
+                } else if (isShorter(edge, neighborEdges[index])) {
+                    neighborEdges[index] = edge;
+                }
+            }
+        }
+
+        private int indexOfNeighbor(int neighbor) {
+            for (int i = 0; i < neighborCount; i++) {
+                if (neighbors[i] == neighbor) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void addNeighbor(int neighbor, int edge) {
+            if (neighborCount == neighbors.length) {
+                neighbors = Arrays.copyOf(neighbors, neighborCount * 2);
+                neighborEdges = Arrays.copyOf(neighborEdges, neighborCount * 2);
+            }
+            neighbors[neighborCount] = neighbor;
+            neighborEdges[neighborCount++] = edge;
+        }
+
+        private boolean isShorter(int edge, int other) {
+            if (distances[edge] != distances[other]) {
+                return distances[edge] < distances[other];
+            }
+            return extraFares[edge] < extraFares[other];
+        }
+
+        private void searchWitness(int source, int excluded, double maxDistance, int settleLimit) {
+            witnessStamp++;
+            witnessHeap.clear();
+            reachWitness(source, 0);
+            witnessHeap.offer(source, 0);
+            int settled = 0;
+            while (!witnessHeap.isEmpty() && settled++ < settleLimit) {
+                int vertex = witnessHeap.poll();
+                double distance = witnessDistances[vertex];
+                if (distance > maxDistance) {
+                    return;
+                }
+                for (int i = 0; i < incidentCounts[vertex]; i++) {
+                    int edge = incidentEdges[vertex][i];
+                    int next = firstVertices[edge] == vertex ? secondVertices[edge] : firstVertices[edge];
+                    if (next == excluded || contracted[next]) {
+                        continue;
+                    }
+                    double nextDistance = distance + distances[edge];
+                    if (nextDistance < witnessDistance(next)) {
+                        reachWitness(next, nextDistance);
+                        witnessHeap.offer(next, nextDistance);
+                    }
+                }
+            }
+        }
+
+        private void reachWitness(int vertex, double distance) {
+            witnessStamps[vertex] = witnessStamp;
+            witnessDistances[vertex] = distance;
+        }
+
+        private double witnessDistance(int vertex) {
+            if (witnessStamps[vertex] == witnessStamp) {
+                return witnessDistances[vertex];
+            }
+            return Double.POSITIVE_INFINITY;
+        }
+
+        private void addEdge(int first, int second, double distance, int extraFare,
+                             int middleVertex, int firstChild, int secondChild) {
+            if (edgeCount == firstVertices.length) {
+                int capacity = edgeCount * 2;
+                firstVertices = Arrays.copyOf(firstVertices, capacity);
+                secondVertices = Arrays.copyOf(secondVertices, capacity);
+                distances = Arrays.copyOf(distances, capacity);
+                extraFares = Arrays.copyOf(extraFares, capacity);
+                middleVertices = Arrays.copyOf(middleVertices, capacity);
+                firstChildren = Arrays.copyOf(firstChildren, capacity);
+                secondChildren = Arrays.copyOf(secondChildren, capacity);
+            }
+            int edge = edgeCount++;
+            firstVertices[edge] = first;
+            secondVertices[edge] = second;
+            distances[edge] = distance;
+            extraFares[edge] = extraFare;
+            middleVertices[edge] = middleVertex;
+            firstChildren[edge] = firstChild;
+            secondChildren[edge] = secondChild;
+            addIncident(first, edge);
+            addIncident(second, edge);
+        }
+
+        private void addIncident(int vertex, int edge) {
+            if (incidentCounts[vertex] == incidentEdges[vertex].length) {
+                incidentEdges[vertex] = Arrays.copyOf(incidentEdges[vertex], incidentCounts[vertex] * 2);
+            }
+            incidentEdges[vertex][incidentCounts[vertex]++] = edge;
+        }
+    }
+}
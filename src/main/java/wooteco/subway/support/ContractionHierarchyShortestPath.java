@@ -0,0 +1,84 @@
+package wooteco.subway.support;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.section.Section;
+
+public class ContractionHierarchyShortestPath extends CompactShortestPath {
+    private static final Preprocessor PREPROCESSOR = new Preprocessor(Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "contraction-hierarchy");
+        thread.setDaemon(true);
+        return thread;
+    }));
+
+    private final CompletableFuture<ContractionHierarchy> hierarchy;
+
+    public ContractionHierarchyShortestPath(Map<Section, Fare> edges) {
+        this(CompactGraph.from(edges));
+    }
+
+    public ContractionHierarchyShortestPath(CompactGraph graph) {
+        this(graph, PREPROCESSOR);
+    }
+
+    public ContractionHierarchyShortestPath(CompactGraph graph, Executor executor) {
+        this(graph, new Preprocessor(executor));
+    }
+
+    private ContractionHierarchyShortestPath(CompactGraph graph, Preprocessor preprocessor) {
+        super(graph);
+        this.hierarchy = preprocessor.submit(graph);
+    }
+
+    @Override
+    protected Path findPath(int source, int target) {
+        if (!isPreprocessed()) {
+            return super.findPath(source, target);
+        }
+        Path path = hierarchy.join().findPath(source, target);
+        if (Objects.isNull(path)) {
+            checkReachable(Double.POSITIVE_INFINITY);
+        }
+        return path;
+    }
+
+    public boolean isPreprocessed() {
+        return hierarchy.isDone() && !hierarchy.isCompletedExceptionally();
+    }
+
+    private static class Preprocessor {
+        private final Executor executor;
+        private final AtomicReference<CompletableFuture<ContractionHierarchy>> newest = new AtomicReference<>();
+
+        Preprocessor(Executor executor) {
+            this.executor = executor;
+        }
+
+        CompletableFuture<ContractionHierarchy> submit(CompactGraph graph) {
+            CompletableFuture<ContractionHierarchy> hierarchy = new CompletableFuture<>();
+            CompletableFuture<ContractionHierarchy> previous = newest.getAndSet(hierarchy);
+            if (Objects.nonNull(previous)) {
+                previous.cancel(false);
+            }
+            executor.execute(() -> build(graph, hierarchy));
+            return hierarchy;
+        }
+
+        private void build(CompactGraph graph, CompletableFuture<ContractionHierarchy> hierarchy) {
+            if (hierarchy.isDone()) {
+                return;
+            }
+            try {
+                hierarchy.complete(ContractionHierarchy.build(graph, hierarchy::isDone));
+            } catch (RuntimeException e) {
+                hierarchy.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package wooteco.subway.support;
+
+import java.util.function.IntConsumer;
+import wooteco.subway.domain.path.PathBudget;
+
+final class Dijkstra {
+    static final int ALL_VERTICES = -1;
+
+    private Dijkstra() {
+    }
+
+    static void search(CompactGraph graph, SearchBuffer buffer, int source, int target) {
+        IndexedMinHeap heap = buffer.getHeap();
+        buffer.reach(source, 0, 0, -1, -1);
+        heap.offer(source, 0);
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            buffer.settle(vertex);
+            if (vertex == target) {
+                return;
+            }
+            relax(graph, buffer, vertex);
+        }
+    }
+
+    static int searchBidirectional(CompactGraph graph, SearchBuffer forward, SearchBuffer backward,
+                                   int source, int target) {
+        if (source == target) {
+            forward.reach(source, 0, 0, -1, -1);
+            backward.reach(target, 0, 0, -1, -1);
+            return source;
+        }
+        forward.reach(source, 0, 0, -1, -1);
+        forward.getHeap().offer(source, 0);
+        backward.reach(target, 0, 0, -1, -1);
+        backward.getHeap().offer(target, 0);
+        Meeting meeting = new Meeting();
+        while (!forward.getHeap().isEmpty() && !backward.getHeap().isEmpty()) {
+            double forwardKey = forward.getHeap().peekKey();
+            double backwardKey = backward.getHeap().peekKey();
+            if (forwardKey + backwardKey >= meeting.distance) {
+                break;
+            }
+            if (forwardKey <= backwardKey) {
+                expand(graph, forward, backward, meeting);
+            } else {
+                expand(graph, backward, forward, meeting);
+            }
+        }
+        return meeting.vertex;
+    }
+
+    private static void expand(CompactGraph graph, SearchBuffer buffer, SearchBuffer opposite, Meeting meeting) {
+        int vertex = buffer.getHeap().poll();
+        buffer.settle(vertex);
+        double distance = buffer.getDistance(vertex);
+        for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+            int next = graph.getTarget(edge);
+            if (buffer.isSettled(next)) {
+                continue;
+            }
+            double nextDistance = distance + graph.getDistance(edge);
+            if (nextDistance < buffer.getDistance(next)) {
+                int extraFare = Math.max(buffer.getExtraFare(vertex), graph.getExtraFare(edge));
+                buffer.reach(next, nextDistance, extraFare, vertex, edge);
+                buffer.getHeap().offer(next, nextDistance);
+                meeting.update(next, nextDistance + opposite.getDistance(next));
+            }
+        }
+    }
+
+    static void searchWithin(CompactGraph graph, SearchBuffer buffer, int source, PathBudget budget,
+                             IntConsumer consumer) {
+        IndexedMinHeap heap = buffer.getHeap();
+        buffer.reach(source, 0, 0, -1, -1);
+        heap.offer(source, 0);
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            double distance = buffer.getDistance(vertex);
+            if (budget.isExhaustedBy(distance)) {
+                return;
+            }
+            buffer.settle(vertex);
+            if (budget.allows(distance, buffer.getExtraFare(vertex))) {
+                consumer.accept(vertex);
+            }
+            relax(graph, buffer, vertex);
+        }
+    }
+
+    private static void relax(CompactGraph graph, SearchBuffer buffer, int vertex) {
+        double distance = buffer.getDistance(vertex);
+        for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+            int next = graph.getTarget(edge);
+            if (buffer.isSettled(next)) {
+                continue;
+            }
+            double nextDistance = distance + graph.getDistance(edge);
+            if (nextDistance < buffer.getDistance(next)) {
+                int extraFare = Math.max(buffer.getExtraFare(vertex), graph.getExtraFare(edge));
+                buffer.reach(next, nextDistance, extraFare, vertex, edge);
+                buffer.getHeap().offer(next, nextDistance);
+            }
+        }
+    }
+
+    private static class Meeting {
+        private double distance = Double.POSITIVE_INFINITY;
+        private int vertex = -1;
+
+        void update(int vertex, double distance) {
+            if (distance < this.distance) {
+                this.distance = distance;
+                this.vertex = vertex;
+            }
+        }
+    }
+}
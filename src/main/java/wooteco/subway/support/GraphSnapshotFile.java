@@ -0,0 +1,202 @@
+package wooteco.subway.support;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
+
+public final class GraphSnapshotFile {
+    private static final int MAGIC = 0x53475246;
+    private static final int FORMAT_VERSION = 1;
+    private static final int CHECKSUM_BYTES = Long.BYTES;
+    private static final long NO_ID = -1;
+    private static final long MIX = 0x9E3779B97F4A7C15L;
+
+    private final long fingerprint;
+    private final CompactGraph graph;
+
+    private GraphSnapshotFile(long fingerprint, CompactGraph graph) {
+        this.fingerprint = fingerprint;
+        this.graph = graph;
+    }
+
+    public static void write(Path file, CompactGraph graph) {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                writeTo(temporary, graph.toEdges());
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeTo(Path file, Map<Section, Fare> edges) throws IOException {
+        List<Station> stations = collectStations(edges);
+        Map<Long, Integer> stationIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < stations.size(); i++) {
+            stationIndexes.put(stations.get(i).getId(), i);
+        }
+
+        try (OutputStream output = Files.newOutputStream(file)) {
+            CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(output), new CRC32());
+            DataOutputStream data = new DataOutputStream(checked);
+            data.writeInt(MAGIC);
+            data.writeInt(FORMAT_VERSION);
+            data.writeLong(fingerprint(edges));
+            data.writeInt(stations.size());
+            data.writeInt(edges.size());
+            for (Station station : stations) {
+                byte[] name = station.getName().getBytes(StandardCharsets.UTF_8);
+                data.writeLong(station.getId());
+                data.writeInt(name.length);
+                data.write(name);
+            }
+            for (Map.Entry<Section, Fare> edge : edges.entrySet()) {
+                Section section = edge.getKey();
+                data.writeLong(Objects.requireNonNullElse(section.getId(), NO_ID));
+                data.writeInt(stationIndexes.get(section.getUpStation().getId()));
+                data.writeInt(stationIndexes.get(section.getDownStation().getId()));
+                data.writeDouble(section.getDistance());
+                data.writeInt(edge.getValue().getValue());
+            }
+            data.flush();
+            data.writeLong(checked.getChecksum().getValue());
+            data.flush();
+        }
+    }
+
+    public static GraphSnapshotFile read(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            checkChecksum(buffer);
+            return parse(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalStateException("그래프 스냅샷 파일이 손상되었습니다.", e);
+        }
+    }
+
+    private static void checkChecksum(ByteBuffer buffer) {
+        int payloadSize = buffer.limit() - CHECKSUM_BYTES;
+        if (payloadSize < 0) {
+            throw new IllegalStateException("그래프 스냅샷 파일이 손상되었습니다.");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().limit(payloadSize));
+        if (crc.getValue() != buffer.getLong(payloadSize)) {
+            throw new IllegalStateException("그래프 스냅샷 파일이 손상되었습니다.");
+        }
+    }
+
+    private static GraphSnapshotFile parse(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalStateException("그래프 스냅샷 파일이 아닙니다.");
+        }
+        if (buffer.getInt() != FORMAT_VERSION) {
+            throw new IllegalStateException("지원하지 않는 그래프 스냅샷 버전입니다.");
+        }
+        long fingerprint = buffer.getLong();
+        Station[] stations = new Station[buffer.getInt()];
+        int sectionCount = buffer.getInt();
+        for (int i = 0; i < stations.length; i++) {
+            long id = buffer.getLong();
+            byte[] name = new byte[buffer.getInt()];
+            buffer.get(name);
+            stations[i] = new Station(id, new String(name, StandardCharsets.UTF_8));
+        }
+        Map<Section, Fare> edges = new LinkedHashMap<>();
+        for (int i = 0; i < sectionCount; i++) {
+            long id = buffer.getLong();
+            Station upStation = stations[buffer.getInt()];
+            Station downStation = stations[buffer.getInt()];
+            Distance distance = Distance.fromKilometer(buffer.getDouble());
+            edges.put(new Section(id == NO_ID ? null : id, upStation, downStation, distance),
+                    new Fare(buffer.getInt()));
+        }
+        return new GraphSnapshotFile(fingerprint, CompactGraph.from(edges));
+    }
+
+    private static List<Station> collectStations(Map<Section, Fare> edges) {
+        Map<Long, Station> stations = new LinkedHashMap<>();
+        for (Section section : edges.keySet()) {
+            stations.putIfAbsent(section.getUpStation().getId(), section.getUpStation());
+            stations.putIfAbsent(section.getDownStation().getId(), section.getDownStation());
+        }
+        return new ArrayList<>(stations.values());
+    }
+
+    public static long fingerprint(Map<Section, Fare> edges) {
+        List<long[]> rows = new ArrayList<>(edges.size());
+        for (Map.Entry<Section, Fare> edge : edges.entrySet()) {
+            Section section = edge.getKey();
+            Station first = section.getUpStation();
+            Station second = section.getDownStation();
+            if (first.getId() > second.getId()) {
+                first = section.getDownStation();
+                second = section.getUpStation();
+            }
+            rows.add(new long[]{
+                    Objects.requireNonNullElse(section.getId(), NO_ID),
+                    first.getId(), first.getName().hashCode(),
+                    second.getId(), second.getName().hashCode(),
+                    Double.doubleToLongBits(section.getDistance()),
+                    edge.getValue().getValue()
+            });
+        }
+        rows.sort(GraphSnapshotFile::compareRows);
+
+        long hash = rows.size();
+        for (long[] row : rows) {
+            for (long value : row) {
+                hash = Long.rotateLeft((hash ^ value) * MIX, 31);
+            }
+        }
+        return hash;
+    }
+
+    private static int compareRows(long[] row, long[] other) {
+        for (int i = 0; i < row.length; i++) {
+            int compared = Long.compare(row[i], other[i]);
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return 0;
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    public CompactGraph getGraph() {
+        return graph;
+    }
+}
@@ -0,0 +1,101 @@
+package wooteco.subway.support;
+
+import java.util.Arrays;
+
+final class IndexedMinHeap {
+    private int[] heap = new int[0];
+    private int[] positions = new int[0];
+    private double[] keys = new double[0];
+    private int size;
+
+    void ensureCapacity(int vertexCount) {
+        if (positions.length >= vertexCount) {
+            return;
+        }
+        heap = new int[vertexCount];
+        positions = new int[vertexCount];
+        keys = new double[vertexCount];
+        Arrays.fill(positions, -1);
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    double peekKey() {
+        return keys[heap[0]];
+    }
+
+    void offer(int vertex, double key) {
+        int position = positions[vertex];
+        if (position < 0) {
+            heap[size] = vertex;
+            positions[vertex] = size;
+            keys[vertex] = key;
+            siftUp(size++);
+            return;
+        }
+        if (key < keys[vertex]) {
+            keys[vertex] = key;
+            siftUp(position);
+        }
+    }
+
+    int poll() {
+        int vertex = heap[0];
+        positions[vertex] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return vertex;
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int position) {
+        int vertex = heap[position];
+        double key = keys[vertex];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (keys[heap[parent]] <= key) {
+                break;
+            }
+            move(heap[parent], position);
+            position = parent;
+        }
+        move(vertex, position);
+    }
+
+    private void siftDown(int position) {
+        int vertex = heap[position];
+        double key = keys[vertex];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && keys[heap[right]] < keys[heap[child]]) {
+                child = right;
+            }
+            if (key <= keys[heap[child]]) {
+                break;
+            }
+            move(heap[child], position);
+            position = child;
+        }
+        move(vertex, position);
+    }
+
+    private void move(int vertex, int position) {
+        heap[position] = vertex;
+        positions[vertex] = position;
+    }
+}
@@ -0,0 +1,150 @@
+package wooteco.subway.support;
+
+import java.util.Arrays;
+
+final class LabelBuffer {
+    private static final ThreadLocal<LabelBuffer> BUFFER = ThreadLocal.withInitial(LabelBuffer::new);
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final SearchCounter counter = SearchCounter.current();
+
+    private int[] vertices = new int[INITIAL_CAPACITY];
+    private double[] distances = new double[INITIAL_CAPACITY];
+    private int[] extraFares = new int[INITIAL_CAPACITY];
+    private int[] parents = new int[INITIAL_CAPACITY];
+    private int labelCount;
+
+    private int[] heap = new int[INITIAL_CAPACITY];
+    private int heapSize;
+
+    private int[] settledExtraFares = new int[0];
+    private int[] settled = new int[0];
+    private int generation;
+
+    static LabelBuffer acquire(int vertexCount) {
+        LabelBuffer buffer = BUFFER.get();
+        buffer.reset(vertexCount);
+        return buffer;
+    }
+
+    private void reset(int vertexCount) {
+        if (settled.length < vertexCount) {
+            settledExtraFares = new int[vertexCount];
+            settled = new int[vertexCount];
+            generation = 0;
+        }
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(settled, 0);
+            generation = 0;
+        }
+        generation++;
+        labelCount = 0;
+        heapSize = 0;
+    }
+
+    void push(int vertex, double distance, int extraFare, int parent) {
+        if (labelCount == vertices.length) {
+            grow();
+        }
+        int label = labelCount++;
+        counter.relax();
+        vertices[label] = vertex;
+        distances[label] = distance;
+        extraFares[label] = extraFare;
+        parents[label] = parent;
+        heap[heapSize] = label;
+        siftUp(heapSize++);
+    }
+
+    private void grow() {
+        int capacity = vertices.length * 2;
+        vertices = Arrays.copyOf(vertices, capacity);
+        distances = Arrays.copyOf(distances, capacity);
+        extraFares = Arrays.copyOf(extraFares, capacity);
+        parents = Arrays.copyOf(parents, capacity);
+        heap = Arrays.copyOf(heap, capacity);
+    }
+
+    boolean isEmpty() {
+        return heapSize == 0;
+    }
+
+    int poll() {
+        int label = heap[0];
+        heapSize--;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            siftDown(0);
+        }
+        return label;
+    }
+
+    boolean isDominated(int vertex, int extraFare) {
+        return settled[vertex] == generation && settledExtraFares[vertex] <= extraFare;
+    }
+
+    boolean settle(int label) {
+        int vertex = vertices[label];
+        if (isDominated(vertex, extraFares[label])) {
+            return false;
+        }
+        settled[vertex] = generation;
+        settledExtraFares[vertex] = extraFares[label];
+        counter.settle();
+        return true;
+    }
+
+    int getVertex(int label) {
+        return vertices[label];
+    }
+
+    double getDistance(int label) {
+        return distances[label];
+    }
+
+    int getExtraFare(int label) {
+        return extraFares[label];
+    }
+
+    int getParent(int label) {
+        return parents[label];
+    }
+
+    private void siftUp(int position) {
+        int label = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!isBefore(label, heap[parent])) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = label;
+    }
+
+    private void siftDown(int position) {
+        int label = heap[position];
+        int half = heapSize >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < heapSize && isBefore(heap[right], heap[child])) {
+                child = right;
+            }
+            if (!isBefore(heap[child], label)) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = label;
+    }
+
+    private boolean isBefore(int label, int otherLabel) {
+        if (distances[label] != distances[otherLabel]) {
+            return distances[label] < distances[otherLabel];
+        }
+        return extraFares[label] < extraFares[otherLabel];
+    }
+}
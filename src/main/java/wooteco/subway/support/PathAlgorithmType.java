@@ -0,0 +1,32 @@
+package wooteco.subway.support;
+
+import java.util.Map;
+import java.util.function.Function;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.PathAlgorithm;
+import wooteco.subway.domain.section.Section;
+
+public enum PathAlgorithmType {
+    JGRAPHT(ShortestPath::new, graph -> new ShortestPath(graph.toEdges())),
+    COMPACT(CompactShortestPath::new, CompactShortestPath::new),
+    BIDIRECTIONAL(BidirectionalShortestPath::new, BidirectionalShortestPath::new),
+    CHAIN_COMPRESSED(ChainCompressedShortestPath::new, ChainCompressedShortestPath::new),
+    CONTRACTION_HIERARCHY(ContractionHierarchyShortestPath::new, ContractionHierarchyShortestPath::new);
+
+    private final Function<Map<Section, Fare>, PathAlgorithm> factory;
+    private final Function<CompactGraph, PathAlgorithm> graphFactory;
+
+    PathAlgorithmType(Function<Map<Section, Fare>, PathAlgorithm> factory,
+                      Function<CompactGraph, PathAlgorithm> graphFactory) {
+        this.factory = factory;
+        this.graphFactory = graphFactory;
+    }
+
+    public PathAlgorithm create(Map<Section, Fare> edges) {
+        return factory.apply(edges);
+    }
+
+    public PathAlgorithm create(CompactGraph graph) {
+        return graphFactory.apply(graph);
+    }
+}
@@ -0,0 +1,32 @@
+package wooteco.subway.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.section.Distance;
+
+final class RouteBuilder {
+    private final List<Integer> vertices = new ArrayList<>();
+    private double distance;
+    private int extraFare;
+
+    RouteBuilder(int source) {
+        vertices.add(source);
+    }
+
+    void add(int vertex, double distance, int extraFare) {
+        vertices.add(vertex);
+        this.distance += distance;
+        this.extraFare = Math.max(this.extraFare, extraFare);
+    }
+
+    Path toPath(CompactGraph graph) {
+        List<Station> stations = new ArrayList<>(vertices.size());
+        for (int vertex : vertices) {
+            stations.add(graph.getStation(vertex));
+        }
+        return new Path(stations, Distance.fromKilometer(distance), new Fare(extraFare));
+    }
+}
@@ -0,0 +1,112 @@
+package wooteco.subway.support;
+
+import java.util.Arrays;
+
+final class SearchBuffer {
+    private static final ThreadLocal<SearchBuffer> BUFFER = ThreadLocal.withInitial(SearchBuffer::new);
+    private static final ThreadLocal<SearchBuffer> REVERSE_BUFFER = ThreadLocal.withInitial(SearchBuffer::new);
+
+    private final IndexedMinHeap heap = new IndexedMinHeap();
+    private final SearchCounter counter = SearchCounter.current();
+    private double[] distances = new double[0];
+    private int[] previousEdges = new int[0];
+    private int[] previousVertices = new int[0];
+    private int[] extraFares = new int[0];
+    private int[] reached = new int[0];
+    private int[] settled = new int[0];
+    private int[] settledOrder = new int[0];
+    private int settledCount;
+    private int generation;
+
+    static SearchBuffer acquire(int vertexCount) {
+        SearchBuffer buffer = BUFFER.get();
+        buffer.reset(vertexCount);
+        return buffer;
+    }
+
+    static SearchBuffer acquireReverse(int vertexCount) {
+        SearchBuffer buffer = REVERSE_BUFFER.get();
+        buffer.reset(vertexCount);
+        return buffer;
+    }
+
+    private void reset(int vertexCount) {
+        heap.ensureCapacity(vertexCount);
+        heap.clear();
+        if (reached.length < vertexCount) {
+            distances = new double[vertexCount];
+            previousEdges = new int[vertexCount];
+            previousVertices = new int[vertexCount];
+            extraFares = new int[vertexCount];
+            reached = new int[vertexCount];
+            settled = new int[vertexCount];
+            settledOrder = new int[vertexCount];
+            generation = 0;
+        }
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(reached, 0);
+            Arrays.fill(settled, 0);
+            generation = 0;
+        }
+        generation++;
+        settledCount = 0;
+    }
+
+    IndexedMinHeap getHeap() {
+        return heap;
+    }
+
+    boolean isReached(int vertex) {
+        return reached[vertex] == generation;
+    }
+
+    boolean isSettled(int vertex) {
+        return settled[vertex] == generation;
+    }
+
+    void settle(int vertex) {
+        settled[vertex] = generation;
+        settledOrder[settledCount++] = vertex;
+        counter.settle();
+    }
+
+    void exclude(int vertex) {
+        settled[vertex] = generation;
+    }
+
+    int getSettledCount() {
+        return settledCount;
+    }
+
+    int getSettled(int order) {
+        return settledOrder[order];
+    }
+
+    double getDistance(int vertex) {
+        if (isReached(vertex)) {
+            return distances[vertex];
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    void reach(int vertex, double distance, int extraFare, int previousVertex, int previousEdge) {
+        reached[vertex] = generation;
+        counter.relax();
+        distances[vertex] = distance;
+        extraFares[vertex] = extraFare;
+        previousVertices[vertex] = previousVertex;
+        previousEdges[vertex] = previousEdge;
+    }
+
+    int getExtraFare(int vertex) {
+        return extraFares[vertex];
+    }
+
+    int getPreviousVertex(int vertex) {
+        return previousVertices[vertex];
+    }
+
+    int getPreviousEdge(int vertex) {
+        return previousEdges[vertex];
+    }
+}
@@ -0,0 +1,35 @@
+package wooteco.subway.support;
+
+public final class SearchCounter {
+    private static final ThreadLocal<SearchCounter> COUNTER = ThreadLocal.withInitial(SearchCounter::new);
+
+    private long settledCount;
+    private long relaxedCount;
+
+    private SearchCounter() {
+    }
+
+    public static SearchCounter current() {
+        return COUNTER.get();
+    }
+
+    void settle() {
+        settledCount++;
+    }
+
+    void relax() {
+        relaxedCount++;
+    }
+
+    void relax(int count) {
+        relaxedCount += count;
+    }
+
+    public long getSettledCount() {
+        return settledCount;
+    }
+
+    public long getRelaxedCount() {
+        return relaxedCount;
+    }
+}
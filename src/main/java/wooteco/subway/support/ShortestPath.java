@@ -1,25 +1,38 @@
 package wooteco.subway.support;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.jgrapht.GraphPath;
+import org.jgrapht.Graphs;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.SingleSourcePaths;
 import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
 import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jgrapht.graph.WeightedMultigraph;
+import org.jgrapht.traverse.ClosestFirstIterator;
 import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.Destination;
 import wooteco.subway.domain.path.Fare;
 import wooteco.subway.domain.path.Path;
 import wooteco.subway.domain.path.PathAlgorithm;
+import wooteco.subway.domain.path.PathBudget;
 import wooteco.subway.domain.section.Distance;
 import wooteco.subway.domain.section.Section;
 
 public class ShortestPath implements PathAlgorithm {
+    private final Map<Section, Fare> edges;
+    private final WeightedMultigraph<Station, PathEdge> graph;
     private final DijkstraShortestPath<Station, PathEdge> dijkstraShortestPath;
+    private volatile PathAlgorithm compactPathAlgorithm;
 
     public ShortestPath(Map<Section, Fare> edges) {
-        WeightedMultigraph<Station, PathEdge> graph = getMultiGraph(edges);
+        this.edges = edges;
+        this.graph = getMultiGraph(edges);
         this.dijkstraShortestPath = new DijkstraShortestPath<>(graph);
     }
 
@@ -57,20 +70,92 @@ public class ShortestPath implements PathAlgorithm {
     @Override
     public Path getPath(Station source, Station target) {
         checkStations(source, target);
+        checkVertex(source);
+        checkVertex(target);
+        ClosestFirstIterator<Station, PathEdge> iterator = new ClosestFirstIterator<>(graph, source);
+        SearchCounter counter = SearchCounter.current();
+        while (iterator.hasNext()) {
+            Station station = iterator.next();
+            counter.settle();
+            counter.relax(graph.degreeOf(station));
+            if (station.equals(target)) {
+                return toPath(iterator, source, target);
+            }
+        }
+        throw new IllegalStateException("해당하는 경로가 존재하지 않습니다.");
+    }
+
+    private Path toPath(ClosestFirstIterator<Station, PathEdge> iterator, Station source, Station target) {
+        List<Station> stations = new ArrayList<>();
+        int extraFare = 0;
+        Station station = target;
+        while (!station.equals(source)) {
+            stations.add(station);
+            PathEdge edge = iterator.getSpanningTreeEdge(station);
+            extraFare = Math.max(extraFare, edge.getExtraFare().getValue());
+            station = Graphs.getOppositeVertex(graph, edge, station);
+        }
+        stations.add(source);
+        Collections.reverse(stations);
+        Distance distance = Distance.fromKilometer(iterator.getShortestPathLength(target));
+        return new Path(stations, distance, new Fare(extraFare));
+    }
+
+    @Override
+    public Path getCheapestPath(Station source, Station target) {
+        return getCompactPathAlgorithm().getCheapestPath(source, target);
+    }
+
+    @Override
+    public List<Path> getAlternativePaths(Station source, Station target, int maxCount, double maxDetourRatio) {
+        return getCompactPathAlgorithm().getAlternativePaths(source, target, maxCount, maxDetourRatio);
+    }
+
+    private PathAlgorithm getCompactPathAlgorithm() {
+        PathAlgorithm pathAlgorithm = compactPathAlgorithm;
+        if (Objects.isNull(pathAlgorithm)) {
+            pathAlgorithm = new CompactShortestPath(edges);
+            compactPathAlgorithm = pathAlgorithm;
+        }
+        return pathAlgorithm;
+    }
+
+    @Override
+    public List<Path> getPaths(Station source, List<Station> targets) {
+        for (Station target : targets) {
+            checkStations(source, target);
+            checkVertex(target);
+        }
         try {
-            GraphPath<Station, PathEdge> path = dijkstraShortestPath.getPath(source, target);
-            checkPath(path);
-            return new Path(path.getVertexList(), Distance.fromKilometer(path.getWeight()), getExtraFare(path));
+            SingleSourcePaths<Station, PathEdge> paths = dijkstraShortestPath.getPaths(source);
+            List<Path> result = new ArrayList<>(targets.size());
+            for (Station target : targets) {
+                GraphPath<Station, PathEdge> path = paths.getPath(target);
+                checkPath(path);
+                result.add(new Path(path.getVertexList(), Distance.fromKilometer(path.getWeight()), getExtraFare(path)));
+            }
+            return result;
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("해당 역은 경로에 존재하지 않습니다.");
         }
     }
 
+    @Override
+    public void forEachDestination(Station source, PathBudget budget, Consumer<Destination> consumer) {
+        getCompactPathAlgorithm().forEachDestination(source, budget, consumer);
+    }
+
     private void checkStations(Station source, Station target) {
         checkNull(source, target);
         checkEquals(source, target);
     }
 
+    private void checkVertex(Station station) {
+        if (!graph.containsVertex(station)) {
+            throw new IllegalArgumentException("해당 역은 경로에 존재하지 않습니다.");
+        }
+    }
+
     private void checkNull(Station source, Station target) {
         if (Objects.isNull(source) || Objects.isNull(target)) {
             throw new IllegalArgumentException("출발역과 도착역은 모두 필수입니다.");
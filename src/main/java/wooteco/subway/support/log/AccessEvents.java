@@ -0,0 +1,15 @@
+package wooteco.subway.support.log;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+
+final class AccessEvents {
+    private static final int ERROR_STATUS = 400;
+
+    private AccessEvents() {
+    }
+
+    static boolean isNotable(IAccessEvent event, long slowThresholdMillis) {
+        return event.getStatusCode() >= ERROR_STATUS
+                || (slowThresholdMillis >= 0 && event.getElapsedTime() >= slowThresholdMillis);
+    }
+}
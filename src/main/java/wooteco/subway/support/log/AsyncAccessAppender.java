@@ -0,0 +1,26 @@
+package wooteco.subway.support.log;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.AsyncAppenderBase;
+
+public class AsyncAccessAppender extends AsyncAppenderBase<IAccessEvent> {
+    private long slowThresholdMillis = 1000;
+
+    public AsyncAccessAppender() {
+        setNeverBlock(true);
+    }
+
+    @Override
+    protected boolean isDiscardable(IAccessEvent event) {
+        return !AccessEvents.isNotable(event, slowThresholdMillis);
+    }
+
+    @Override
+    protected void preprocess(IAccessEvent event) {
+        event.prepareForDeferredProcessing();
+    }
+
+    public void setSlowThresholdMillis(long slowThresholdMillis) {
+        this.slowThresholdMillis = slowThresholdMillis;
+    }
+}
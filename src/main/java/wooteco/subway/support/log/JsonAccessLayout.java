@@ -0,0 +1,55 @@
+package wooteco.subway.support.log;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.LayoutBase;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+public class JsonAccessLayout extends LayoutBase<IAccessEvent> {
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private long slowThresholdMillis = 1000;
+
+    @Override
+    public String doLayout(IAccessEvent event) {
+        StringWriter writer = new StringWriter(256);
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeStringField("time", Instant.ofEpochMilli(event.getTimeStamp()).toString());
+            generator.writeStringField("method", event.getMethod());
+            generator.writeStringField("uri", event.getRequestURI());
+            writeIfPresent(generator, "query", event.getQueryString());
+            generator.writeNumberField("status", event.getStatusCode());
+            generator.writeNumberField("latencyMs", event.getElapsedTime());
+            generator.writeNumberField("responseBytes", event.getContentLength());
+            generator.writeStringField("remoteAddr", event.getRemoteAddr());
+            if (AccessEvents.isNotable(event, slowThresholdMillis)) {
+                writeIfPresent(generator, "requestBody", event.getRequestContent());
+                writeIfPresent(generator, "responseBody", event.getResponseContent());
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.append(CoreConstants.LINE_SEPARATOR).toString();
+    }
+
+    private void writeIfPresent(JsonGenerator generator, String name, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/json";
+    }
+
+    public void setSlowThresholdMillis(long slowThresholdMillis) {
+        this.slowThresholdMillis = slowThresholdMillis;
+    }
+}
@@ -0,0 +1,30 @@
+package wooteco.subway.support.log;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class SamplingAccessFilter extends Filter<IAccessEvent> {
+    private double sampleRate = 1.0;
+    private long slowThresholdMillis = 1000;
+
+    @Override
+    public FilterReply decide(IAccessEvent event) {
+        if (sampleRate >= 1.0 || AccessEvents.isNotable(event, slowThresholdMillis)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public void setSlowThresholdMillis(long slowThresholdMillis) {
+        this.slowThresholdMillis = slowThresholdMillis;
+    }
+}
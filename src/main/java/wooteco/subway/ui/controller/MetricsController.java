@@ -0,0 +1,22 @@
+package wooteco.subway.ui.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import wooteco.subway.dto.response.PathMetricsResponse;
+import wooteco.subway.ui.service.PathMetrics;
+
+@RestController
+public class MetricsController {
+    private final PathMetrics pathMetrics;
+
+    public MetricsController(PathMetrics pathMetrics) {
+        this.pathMetrics = pathMetrics;
+    }
+
+    @GetMapping("/metrics/paths")
+    public ResponseEntity<PathMetricsResponse> showPathMetrics() {
+        return ResponseEntity.ok(pathMetrics.getMetrics());
+    }
+}
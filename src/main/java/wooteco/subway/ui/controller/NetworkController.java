@@ -0,0 +1,45 @@
+package wooteco.subway.ui.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import wooteco.subway.dto.response.NetworkImportResponse;
+import wooteco.subway.ui.service.NetworkImport;
+import wooteco.subway.ui.service.NetworkImportService;
+
+@RestController
+public class NetworkController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final NetworkImportService networkImportService;
+    private final ObjectMapper objectMapper;
+
+    public NetworkController(NetworkImportService networkImportService, ObjectMapper objectMapper) {
+        this.networkImportService = networkImportService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping(value = "/network/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<NetworkImportResponse> importJson(HttpServletRequest request) throws IOException {
+        NetworkImport networkImport = networkImportService.read(
+                NetworkImportReader.fromJson(objectMapper, request.getInputStream()));
+        return ResponseEntity.ok(networkImportService.importNetwork(networkImport));
+    }
+
+    @PostMapping(value = "/network/import", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<NetworkImportResponse> importCsv(HttpServletRequest request) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(),
+                StandardCharsets.UTF_8));
+        NetworkImport networkImport = networkImportService.read(NetworkImportReader.fromCsv(reader));
+        return ResponseEntity.ok(networkImportService.importNetwork(networkImport));
+    }
+}
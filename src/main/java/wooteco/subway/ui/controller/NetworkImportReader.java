@@ -0,0 +1,112 @@
+package wooteco.subway.ui.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import wooteco.subway.dto.request.NetworkImportRow;
+
+final class NetworkImportReader {
+    private static final String CSV_HEADER = "line,color,extraFare,upStation,downStation,distance";
+    private static final int CSV_COLUMN_COUNT = 6;
+
+    private NetworkImportReader() {
+    }
+
+    static Iterator<NetworkImportRow> fromJson(ObjectMapper objectMapper, InputStream input) throws IOException {
+        MappingIterator<NetworkImportRow> rows = readValues(objectMapper, input);
+        return new Iterator<>() {
+            private int rowNumber = 1;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    return rows.hasNextValue();
+                } catch (IOException e) {
+                    throw invalidJson(rowNumber);
+                }
+            }
+
+            @Override
+            public NetworkImportRow next() {
+                try {
+                    NetworkImportRow row = rows.nextValue();
+                    rowNumber++;
+                    return row;
+                } catch (IOException e) {
+                    throw invalidJson(rowNumber);
+                }
+            }
+        };
+    }
+
+    private static IllegalArgumentException invalidJson(int rowNumber) {
+        return new IllegalArgumentException(
+                String.format("%d번째 구간을 읽을 수 없습니다. JSON 형식이 올바르지 않습니다.", rowNumber));
+    }
+
+    private static MappingIterator<NetworkImportRow> readValues(ObjectMapper objectMapper, InputStream input)
+            throws IOException {
+        try {
+            return objectMapper.readerFor(NetworkImportRow.class).readValues(input);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    static Iterator<NetworkImportRow> fromCsv(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null || !CSV_HEADER.equals(header.strip())) {
+            throw new IllegalArgumentException("CSV 첫 줄은 " + CSV_HEADER + " 이어야 합니다.");
+        }
+        return new Iterator<>() {
+            private String next = readRow(reader);
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public NetworkImportRow next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                NetworkImportRow row = toRow(next);
+                next = readRow(reader);
+                return row;
+            }
+        };
+    }
+
+    private static String readRow(BufferedReader reader) {
+        try {
+            String line = reader.readLine();
+            while (line != null && line.isBlank()) {
+                line = reader.readLine();
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static NetworkImportRow toRow(String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != CSV_COLUMN_COUNT) {
+            throw new IllegalArgumentException("CSV 행의 열 개수가 올바르지 않습니다: " + line);
+        }
+        try {
+            return new NetworkImportRow(columns[0].strip(), columns[1].strip(), Integer.parseInt(columns[2].strip()),
+                    columns[3].strip(), columns[4].strip(), Integer.parseInt(columns[5].strip()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("CSV 행의 추가 요금과 거리는 숫자여야 합니다: " + line);
+        }
+    }
+}
@@ -1,26 +1,102 @@
 package wooteco.subway.ui.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import wooteco.subway.dto.request.AlternativePathRequest;
+import wooteco.subway.dto.request.DestinationRequest;
+import wooteco.subway.dto.request.PathBatchRequest;
 import wooteco.subway.dto.request.PathRequest;
+import wooteco.subway.dto.response.DestinationResponse;
 import wooteco.subway.dto.response.PathResponse;
+import wooteco.subway.ui.service.DestinationSearch;
+import wooteco.subway.ui.service.PathMetrics;
 import wooteco.subway.ui.service.PathService;
+import wooteco.subway.ui.service.PathTimer;
 
 @RestController
 public class PathController {
+    private static final String SERVER_TIMING = "Server-Timing";
+
     private final PathService pathService;
+    private final PathMetrics pathMetrics;
+    private final ObjectMapper objectMapper;
 
-    public PathController(PathService pathService) {
+    public PathController(PathService pathService, PathMetrics pathMetrics, ObjectMapper objectMapper) {
         this.pathService = pathService;
+        this.pathMetrics = pathMetrics;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/paths")
     public ResponseEntity<PathResponse> getPath(@Valid @ModelAttribute PathRequest pathRequest) {
-        PathResponse pathResponse = pathService.getPath(pathRequest);
-        return ResponseEntity.ok(pathResponse);
+        PathTimer timer = new PathTimer();
+        PathResponse pathResponse = pathService.getPath(pathRequest, timer);
+        if (!pathMetrics.isEnabled()) {
+            return ResponseEntity.ok(pathResponse);
+        }
+        return ResponseEntity.ok()
+                .header(SERVER_TIMING, timer.toServerTiming())
+                .body(pathResponse);
+    }
+
+    @PostMapping("/paths/batch")
+    public ResponseEntity<List<PathResponse>> getPaths(@Valid @RequestBody PathBatchRequest pathBatchRequest) {
+        List<PathResponse> pathResponses = pathService.getPaths(pathBatchRequest);
+        return ResponseEntity.ok(pathResponses);
+    }
+
+    @GetMapping("/paths/alternatives")
+    public ResponseEntity<List<PathResponse>> getAlternativePaths(
+            @Valid @ModelAttribute AlternativePathRequest alternativePathRequest) {
+        List<PathResponse> pathResponses = pathService.getAlternativePaths(alternativePathRequest);
+        return ResponseEntity.ok(pathResponses);
+    }
+
+    @GetMapping("/paths/destinations")
+    public void getDestinations(@Valid @ModelAttribute DestinationRequest destinationRequest,
+                                HttpServletResponse response) throws IOException {
+        DestinationSearch destinationSearch = pathService.findDestinations(destinationRequest);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonGenerator generator = createGenerator(response)) {
+            destinationSearch.forEach(destination -> write(generator, destination));
+            startArray(generator);
+            generator.writeEndArray();
+        }
+    }
+
+    private JsonGenerator createGenerator(HttpServletResponse response) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        return generator;
+    }
+
+    private void startArray(JsonGenerator generator) throws IOException {
+        if (generator.getOutputContext().inRoot()) {
+            generator.writeStartArray();
+        }
+    }
+
+    private void write(JsonGenerator generator, DestinationResponse destination) {
+        try {
+            startArray(generator);
+            generator.writeObject(destination);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -0,0 +1,34 @@
+package wooteco.subway.ui.service;
+
+import java.util.function.Consumer;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.Age;
+import wooteco.subway.domain.path.Destination;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.PathAlgorithm;
+import wooteco.subway.domain.path.PathBudget;
+import wooteco.subway.dto.response.DestinationResponse;
+
+public class DestinationSearch {
+    private final PathAlgorithm pathAlgorithm;
+    private final Station source;
+    private final PathBudget budget;
+    private final Age age;
+
+    DestinationSearch(PathAlgorithm pathAlgorithm, Station source, PathBudget budget, Age age) {
+        this.pathAlgorithm = pathAlgorithm;
+        this.source = source;
+        this.budget = budget;
+        this.age = age;
+    }
+
+    public void forEach(Consumer<DestinationResponse> consumer) {
+        pathAlgorithm.forEachDestination(source, budget, destination -> consumer.accept(toResponse(destination)));
+    }
+
+    private DestinationResponse toResponse(Destination destination) {
+        Station station = destination.getStation();
+        Fare fare = destination.calculateFare(age);
+        return new DestinationResponse(station.getId(), station.getName(), destination.getDistance(), fare.getValue());
+    }
+}
@@ -1,16 +1,19 @@
 package wooteco.subway.ui.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import org.springframework.transaction.annotation.Transactional;
 import wooteco.subway.dao.LineDao;
 import wooteco.subway.dao.SectionDao;
-import wooteco.subway.dao.StationDao;
+import wooteco.subway.dao.StationRegistry;
 import wooteco.subway.domain.section.Distance;
 import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.NetworkDelta;
 import wooteco.subway.domain.Line;
 import wooteco.subway.domain.section.Section;
 import wooteco.subway.domain.Station;
@@ -20,13 +23,16 @@ import wooteco.subway.dto.response.LineResponse;
 @Service
 public class LineService {
     private final LineDao lineDao;
-    private final StationDao stationDao;
+    private final StationRegistry stationRegistry;
     private final SectionDao sectionDao;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public LineService(LineDao lineDao, StationDao stationDao, SectionDao sectionDao) {
+    public LineService(LineDao lineDao, StationRegistry stationRegistry, SectionDao sectionDao,
+                       ApplicationEventPublisher eventPublisher) {
         this.lineDao = lineDao;
-        this.stationDao = stationDao;
+        this.stationRegistry = stationRegistry;
         this.sectionDao = sectionDao;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -34,24 +40,25 @@ public class LineService {
         String name = lineRequest.getName();
         String color = lineRequest.getColor();
 
-        Station upStation = stationDao.findById(lineRequest.getUpStationId());
-        Station downStation = stationDao.findById(lineRequest.getDownStationId());
+        Station upStation = stationRegistry.findById(lineRequest.getUpStationId());
+        Station downStation = stationRegistry.findById(lineRequest.getDownStationId());
         Distance distance = Distance.fromMeter(lineRequest.getDistance());
         Section section = new Section(upStation, downStation, distance);
 
         Line line = new Line(name, color, section);
         Fare extraFare = new Fare(lineRequest.getExtraFare());
         Line createdLine = lineDao.save(line, extraFare);
-        sectionDao.save(section, createdLine.getId());
+        Section savedSection = sectionDao.save(section, createdLine.getId());
+        eventPublisher.publishEvent(new NetworkChangedEvent(NetworkDelta.added(savedSection, extraFare)));
 
         return LineResponse.from(createdLine, extraFare);
     }
 
     @Transactional(readOnly = true)
     public List<LineResponse> findAll() {
-        final List<Line> lines = lineDao.findAll();
-        return lines.stream()
-                .map(line -> LineResponse.from(line, lineDao.findExtraFareById(line.getId())))
+        final Map<Line, Fare> lines = lineDao.findAllWithExtraFare();
+        return lines.entrySet().stream()
+                .map(entry -> LineResponse.from(entry.getKey(), entry.getValue()))
                 .collect(Collectors.toList());
     }
 
@@ -65,10 +72,20 @@ public class LineService {
     public void modify(Long id, LineRequest lineRequest) {
         final Line line = new Line(id, lineRequest.getName(), lineRequest.getColor());
         final Fare extraFare = new Fare(lineRequest.getExtraFare());
+        final NetworkDelta delta = toReweightedDelta(id, extraFare);
         lineDao.update(line, extraFare);
+        eventPublisher.publishEvent(new NetworkChangedEvent(delta));
+    }
+
+    private NetworkDelta toReweightedDelta(Long id, Fare extraFare) {
+        if (lineDao.findExtraFareById(id).equals(extraFare)) {
+            return NetworkDelta.empty();
+        }
+        return NetworkDelta.reweighted(lineDao.findById(id).getSections(), extraFare);
     }
 
     public void delete(Long id) {
         lineDao.delete(id);
+        eventPublisher.publishEvent(new NetworkChangedEvent(NetworkDelta.empty()));
     }
 }
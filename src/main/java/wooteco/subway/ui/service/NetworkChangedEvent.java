@@ -0,0 +1,24 @@
+package wooteco.subway.ui.service;
+
+import java.util.Objects;
+import wooteco.subway.domain.path.NetworkDelta;
+
+public class NetworkChangedEvent {
+    private final NetworkDelta delta;
+
+    public NetworkChangedEvent() {
+        this(null);
+    }
+
+    public NetworkChangedEvent(NetworkDelta delta) {
+        this.delta = delta;
+    }
+
+    public boolean hasDelta() {
+        return Objects.nonNull(delta);
+    }
+
+    public NetworkDelta getDelta() {
+        return delta;
+    }
+}
@@ -0,0 +1,96 @@
+package wooteco.subway.ui.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.dto.request.NetworkImportRow;
+
+public class NetworkImport {
+    private final Map<String, Station> stations = new HashMap<>();
+    private final List<Station> newStations = new ArrayList<>();
+    private final Map<String, ImportedLine> lines = new LinkedHashMap<>();
+    private long provisionalId;
+
+    NetworkImport(List<Station> existingStations) {
+        for (Station station : existingStations) {
+            stations.put(station.getName(), station);
+        }
+    }
+
+    void add(NetworkImportRow row) {
+        Station upStation = findOrCreate(row.getUpStation());
+        Station downStation = findOrCreate(row.getDownStation());
+        if (upStation.equals(downStation)) {
+            throw new IllegalArgumentException("상행역과 하행역이 같을 수 없습니다.");
+        }
+        if (row.getDistance() <= 0) {
+            throw new IllegalArgumentException("거리는 0일 수 없습니다.");
+        }
+        Section section = new Section(upStation, downStation, Distance.fromMeter(row.getDistance()));
+        Fare extraFare = new Fare(row.getExtraFare());
+
+        ImportedLine importedLine = lines.get(row.getLine());
+        if (importedLine == null) {
+            lines.put(row.getLine(), new ImportedLine(new Line(row.getLine(), row.getColor(), section), extraFare));
+            return;
+        }
+        importedLine.add(row.getColor(), extraFare, section);
+    }
+
+    private Station findOrCreate(String name) {
+        Station station = stations.get(name);
+        if (station != null) {
+            return station;
+        }
+        Station created = new Station(--provisionalId, name);
+        stations.put(name, created);
+        newStations.add(created);
+        return created;
+    }
+
+    boolean isEmpty() {
+        return lines.isEmpty();
+    }
+
+    List<Station> getNewStations() {
+        return newStations;
+    }
+
+    Collection<ImportedLine> getLines() {
+        return lines.values();
+    }
+
+    static class ImportedLine {
+        private final Line line;
+        private final Fare extraFare;
+
+        ImportedLine(Line line, Fare extraFare) {
+            this.line = line;
+            this.extraFare = extraFare;
+        }
+
+        void add(String color, Fare extraFare, Section section) {
+            if (!line.getColor().equals(color) || !this.extraFare.equals(extraFare)) {
+                throw new IllegalArgumentException("같은 노선의 색상과 추가 요금은 모두 같아야 합니다.");
+            }
+            line.addSection(section);
+        }
+
+        Line getLine() {
+            return line;
+        }
+
+        Fare getExtraFare() {
+            return extraFare;
+        }
+    }
+}
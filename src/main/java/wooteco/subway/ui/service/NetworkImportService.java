@@ -0,0 +1,87 @@
+package wooteco.subway.ui.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import wooteco.subway.dao.LineDao;
+import wooteco.subway.dao.SectionDao;
+import wooteco.subway.dao.StationDao;
+import wooteco.subway.dao.StationRegistry;
+import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.dto.request.NetworkImportRow;
+import wooteco.subway.dto.response.NetworkImportResponse;
+
+@Service
+public class NetworkImportService {
+    private final StationDao stationDao;
+    private final StationRegistry stationRegistry;
+    private final LineDao lineDao;
+    private final SectionDao sectionDao;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public NetworkImportService(StationDao stationDao, StationRegistry stationRegistry, LineDao lineDao,
+                                SectionDao sectionDao, ApplicationEventPublisher eventPublisher) {
+        this.stationDao = stationDao;
+        this.stationRegistry = stationRegistry;
+        this.lineDao = lineDao;
+        this.sectionDao = sectionDao;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public NetworkImport read(Iterator<NetworkImportRow> rows) {
+        NetworkImport networkImport = new NetworkImport(stationDao.findAll());
+        for (int rowNumber = 1; rows.hasNext(); rowNumber++) {
+            NetworkImportRow row = rows.next();
+            try {
+                networkImport.add(row);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                throw new IllegalArgumentException(
+                        String.format("%d번째 구간을 가져올 수 없습니다. %s", rowNumber, e.getMessage()));
+            }
+        }
+        if (networkImport.isEmpty()) {
+            throw new IllegalArgumentException("가져올 구간이 없습니다.");
+        }
+        return networkImport;
+    }
+
+    @Transactional
+    public NetworkImportResponse importNetwork(NetworkImport networkImport) {
+        List<Station> newStations = networkImport.getNewStations();
+        Map<Long, Station> savedStations = saveStations(newStations);
+        int sectionCount = 0;
+        for (NetworkImport.ImportedLine importedLine : networkImport.getLines()) {
+            Line savedLine = lineDao.save(importedLine.getLine(), importedLine.getExtraFare());
+            List<Section> sections = new ArrayList<>();
+            for (Section section : importedLine.getLine().getSections()) {
+                sections.add(new Section(savedStations.getOrDefault(section.getUpStationId(), section.getUpStation()),
+                        savedStations.getOrDefault(section.getDownStationId(), section.getDownStation()),
+                        Distance.fromKilometer(section.getDistance())));
+            }
+            sectionDao.save(sections, savedLine.getId());
+            sectionCount += sections.size();
+        }
+        stationRegistry.registerAll(new ArrayList<>(savedStations.values()));
+        eventPublisher.publishEvent(new NetworkChangedEvent());
+        return new NetworkImportResponse(newStations.size(), networkImport.getLines().size(), sectionCount);
+    }
+
+    private Map<Long, Station> saveStations(List<Station> newStations) {
+        List<Station> saved = stationDao.saveAll(newStations);
+        Map<Long, Station> savedStations = new HashMap<>();
+        for (int i = 0; i < newStations.size(); i++) {
+            savedStations.put(newStations.get(i).getId(), saved.get(i));
+        }
+        return savedStations;
+    }
+}
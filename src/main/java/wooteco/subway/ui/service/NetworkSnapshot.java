@@ -0,0 +1,28 @@
+package wooteco.subway.ui.service;
+
+import wooteco.subway.domain.path.PathAlgorithm;
+import wooteco.subway.support.CompactGraph;
+
+public class NetworkSnapshot {
+    private final long version;
+    private final CompactGraph graph;
+    private final PathAlgorithm pathAlgorithm;
+
+    public NetworkSnapshot(long version, CompactGraph graph, PathAlgorithm pathAlgorithm) {
+        this.version = version;
+        this.graph = graph;
+        this.pathAlgorithm = pathAlgorithm;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public CompactGraph getGraph() {
+        return graph;
+    }
+
+    public PathAlgorithm getPathAlgorithm() {
+        return pathAlgorithm;
+    }
+}
@@ -0,0 +1,261 @@
+package wooteco.subway.ui.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.RouteMode;
+
+@Component
+public class PathCache {
+    private static final int MAX_SEGMENT_COUNT = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final int maximumSize;
+    private final long expireAfterNanos;
+    private final Segment[] segments;
+    private final Map<PathKey, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    public PathCache(@Value("${subway.path.cache.maximum-size:10000}") int maximumSize,
+                     @Value("${subway.path.cache.expire-after:0s}") Duration expireAfter) {
+        this.maximumSize = maximumSize;
+        this.expireAfterNanos = expireAfter.toNanos();
+        this.segments = createSegments(maximumSize);
+    }
+
+    private Segment[] createSegments(int maximumSize) {
+        int segmentCount = Integer.highestOneBit(
+                Math.max(1, Math.min(MAX_SEGMENT_COUNT, maximumSize / MIN_SEGMENT_SIZE)));
+        Segment[] segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int capacity = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+            segments[i] = new Segment(capacity, evictionCount);
+        }
+        return segments;
+    }
+
+    public Path get(long version, RouteMode routeMode, Long source, Long target, Supplier<Path> loader) {
+        PathKey key = new PathKey(version, routeMode, source, target);
+        Path cached = find(key);
+        if (Objects.nonNull(cached)) {
+            hitCount.increment();
+            return cached;
+        }
+        missCount.increment();
+        return load(key, loader);
+    }
+
+    private Path load(PathKey key, Supplier<Path> loader) {
+        CompletableFuture<Path> flight = new CompletableFuture<>();
+        CompletableFuture<Path> leader = inFlight.putIfAbsent(key, flight);
+        if (Objects.nonNull(leader)) {
+            coalescedCount.increment();
+            return await(leader);
+        }
+        try {
+            Path path = find(key);
+            if (Objects.isNull(path)) {
+                loadCount.increment();
+                path = loader.get();
+                store(key, path);
+            }
+            flight.complete(path);
+            return path;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Path await(CompletableFuture<Path> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private void store(PathKey key, Path path) {
+        if (maximumSize <= 0) {
+            return;
+        }
+        segmentFor(key).put(key, new CachedPath(path, System.nanoTime()));
+    }
+
+    private Path find(PathKey key) {
+        if (maximumSize <= 0) {
+            return null;
+        }
+        Segment segment = segmentFor(key);
+        CachedPath cached = segment.get(key);
+        if (Objects.isNull(cached)) {
+            return null;
+        }
+        if (cached.isExpired(expireAfterNanos)) {
+            if (segment.remove(key, cached)) {
+                evictionCount.increment();
+            }
+            return null;
+        }
+        return cached.path;
+    }
+
+    private Segment segmentFor(PathKey key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkChanged(NetworkChangedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStationChanged(StationChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    private static class PathKey {
+        private final long version;
+        private final RouteMode routeMode;
+        private final Long source;
+        private final Long target;
+
+        PathKey(long version, RouteMode routeMode, Long source, Long target) {
+            this.version = version;
+            this.routeMode = routeMode;
+            this.source = source;
+            this.target = target;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PathKey pathKey = (PathKey) o;
+            return version == pathKey.version
+                    && routeMode == pathKey.routeMode
+                    && Objects.equals(source, pathKey.source)
+                    && Objects.equals(target, pathKey.target);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(version, routeMode, source, target);
+        }
+    }
+
+    private static class Segment {
+        private final Map<PathKey, CachedPath> paths;
+
+        Segment(int capacity, LongAdder evictionCount) {
+            this.paths = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<PathKey, CachedPath> eldest) {
+                    if (size() > capacity) {
+                        evictionCount.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized CachedPath get(PathKey key) {
+            return paths.get(key);
+        }
+
+        synchronized void put(PathKey key, CachedPath cached) {
+            paths.put(key, cached);
+        }
+
+        synchronized boolean remove(PathKey key, CachedPath cached) {
+            return paths.remove(key, cached);
+        }
+
+        synchronized void clear() {
+            paths.clear();
+        }
+
+        synchronized int size() {
+            return paths.size();
+        }
+    }
+
+    private static class CachedPath {
+        private final Path path;
+        private final long loadedAt;
+
+        CachedPath(Path path, long loadedAt) {
+            this.path = path;
+            this.loadedAt = loadedAt;
+        }
+
+        boolean isExpired(long expireAfterNanos) {
+            return expireAfterNanos > 0 && System.nanoTime() - loadedAt > expireAfterNanos;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package wooteco.subway.ui.service;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import wooteco.subway.dao.StationRegistry;
+import wooteco.subway.dto.response.HistogramResponse;
+import wooteco.subway.dto.response.PathMetricsResponse;
+
+@Component
+public class PathMetrics {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final boolean enabled;
+    private final PathCache pathCache;
+    private final StationRegistry stationRegistry;
+    private final Map<PathPhase, Histogram> phaseLatencies = new EnumMap<>(PathPhase.class);
+    private final Histogram totalLatency = new Histogram();
+    private final Histogram settledVertices = new Histogram();
+    private final Histogram relaxedEdges = new Histogram();
+    private final Histogram pathLength = new Histogram();
+
+    public PathMetrics(@Value("${subway.path.metrics.enabled:true}") boolean enabled, PathCache pathCache,
+                       StationRegistry stationRegistry) {
+        this.enabled = enabled;
+        this.pathCache = pathCache;
+        this.stationRegistry = stationRegistry;
+        for (PathPhase phase : PathPhase.values()) {
+            phaseLatencies.put(phase, new Histogram());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void record(PathTimer timer) {
+        if (!enabled) {
+            return;
+        }
+        for (Map.Entry<PathPhase, Histogram> entry : phaseLatencies.entrySet()) {
+            entry.getValue().record(timer.getNanos(entry.getKey()));
+        }
+        totalLatency.record(timer.getTotalNanos());
+        if (timer.isSearched()) {
+            settledVertices.record(timer.getSettledCount());
+            relaxedEdges.record(timer.getRelaxedCount());
+            pathLength.record(timer.getPathLength());
+        }
+    }
+
+    public PathMetricsResponse getMetrics() {
+        Map<String, HistogramResponse> latencies = new LinkedHashMap<>();
+        for (Map.Entry<PathPhase, Histogram> entry : phaseLatencies.entrySet()) {
+            latencies.put(entry.getKey().getMetricName(), toResponse(entry.getValue(), NANOS_PER_MILLI));
+        }
+        latencies.put("total", toResponse(totalLatency, NANOS_PER_MILLI));
+        long loadCount = pathCache.getLoadCount();
+        long coalescedCount = pathCache.getCoalescedCount();
+        return new PathMetricsResponse(latencies, toResponse(settledVertices, 1), toResponse(relaxedEdges, 1),
+                toResponse(pathLength, 1), pathCache.getHitCount(), pathCache.getMissCount(),
+                pathCache.getEvictionCount(), loadCount, coalescedCount, ratioOf(coalescedCount, loadCount + coalescedCount),
+                stationRegistry.getHitCount(), stationRegistry.getMissCount(), stationRegistry.getHitRate());
+    }
+
+    private double ratioOf(long count, long total) {
+        if (total == 0) {
+            return 0;
+        }
+        return (double) count / total;
+    }
+
+    private HistogramResponse toResponse(Histogram histogram, double unit) {
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        return new HistogramResponse(snapshot.getCount(),
+                snapshot.getMean() / unit,
+                snapshot.getValueAtPercentile(50) / unit,
+                snapshot.getValueAtPercentile(90) / unit,
+                snapshot.getValueAtPercentile(99) / unit,
+                snapshot.getValueAtPercentile(99.9) / unit,
+                snapshot.getMax() / unit);
+    }
+}
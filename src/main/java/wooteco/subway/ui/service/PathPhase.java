@@ -0,0 +1,18 @@
+package wooteco.subway.ui.service;
+
+public enum PathPhase {
+    CACHE("cache"),
+    STATION("station"),
+    SEARCH("search"),
+    FARE("fare");
+
+    private final String metricName;
+
+    PathPhase(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+}
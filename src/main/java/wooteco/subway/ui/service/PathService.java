@@ -1,55 +1,182 @@
 package wooteco.subway.ui.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
-import wooteco.subway.dao.SectionDao;
-import wooteco.subway.dao.StationDao;
+import wooteco.subway.dao.StationRegistry;
 
 import wooteco.subway.domain.Station;
 import wooteco.subway.domain.path.Age;
 import wooteco.subway.domain.path.Fare;
 import wooteco.subway.domain.path.Path;
 import wooteco.subway.domain.path.PathAlgorithm;
-import wooteco.subway.domain.section.Section;
+import wooteco.subway.domain.path.PathBudget;
+import wooteco.subway.domain.path.RouteMode;
+import wooteco.subway.domain.section.Distance;
 
+import wooteco.subway.dto.request.AlternativePathRequest;
+import wooteco.subway.dto.request.DestinationRequest;
+import wooteco.subway.dto.request.PathBatchRequest;
 import wooteco.subway.dto.request.PathRequest;
 import wooteco.subway.dto.response.PathResponse;
 import wooteco.subway.dto.response.StationResponse;
-
-import wooteco.subway.support.ShortestPath;
+import wooteco.subway.support.SearchCounter;
 
 @Service
 public class PathService {
-    private final SectionDao sectionDao;
-    private final StationDao stationDao;
+    private static final int DEFAULT_ALTERNATIVE_COUNT = 3;
+    private static final double DEFAULT_MAX_DETOUR = 1.5;
+
+    private final SubwayNetwork subwayNetwork;
+    private final PathCache pathCache;
+    private final StationRegistry stationRegistry;
+    private final PathMetrics pathMetrics;
 
-    public PathService(SectionDao sectionDao, StationDao stationDao) {
-        this.sectionDao = sectionDao;
-        this.stationDao = stationDao;
+    public PathService(SubwayNetwork subwayNetwork, PathCache pathCache, StationRegistry stationRegistry,
+                       PathMetrics pathMetrics) {
+        this.subwayNetwork = subwayNetwork;
+        this.pathCache = pathCache;
+        this.stationRegistry = stationRegistry;
+        this.pathMetrics = pathMetrics;
     }
 
     public PathResponse getPath(PathRequest pathRequest) {
-        List<Section> sections = sectionDao.findAll();
-        PathAlgorithm pathAlgorithm = makePathAlgorithmFrom(sections);
+        return getPath(pathRequest, new PathTimer());
+    }
+
+    public PathResponse getPath(PathRequest pathRequest, PathTimer timer) {
+        NetworkSnapshot snapshot = subwayNetwork.getSnapshot();
+        RouteMode routeMode = RouteMode.from(pathRequest.getMode());
+        Path path = pathCache.get(snapshot.getVersion(), routeMode, pathRequest.getSource(), pathRequest.getTarget(),
+                () -> findPath(snapshot.getPathAlgorithm(), routeMode, pathRequest, timer));
+        timer.lap(PathPhase.CACHE);
+        PathResponse pathResponse = toResponse(path, pathRequest);
+        timer.lap(PathPhase.FARE);
+        pathMetrics.record(timer);
+        return pathResponse;
+    }
+
+    public List<PathResponse> getPaths(PathBatchRequest pathBatchRequest) {
+        List<PathRequest> pathRequests = pathBatchRequest.getPaths();
+        PathAlgorithm pathAlgorithm = subwayNetwork.getSnapshot().getPathAlgorithm();
+
+        Map<Long, List<Integer>> indexesBySource = groupBySource(pathRequests);
+        PathResponse[] pathResponses = new PathResponse[pathRequests.size()];
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        indexesBySource.entrySet()
+                .parallelStream()
+                .forEach(entry -> {
+                    try {
+                        fillResponses(pathAlgorithm, entry.getKey(), entry.getValue(),
+                                pathRequests, pathResponses);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    }
+                });
+        if (Objects.nonNull(failure.get())) {
+            throw failure.get();
+        }
+        return Arrays.asList(pathResponses);
+    }
+
+    private void fillResponses(PathAlgorithm pathAlgorithm, Long sourceId, List<Integer> indexes,
+                               List<PathRequest> pathRequests, PathResponse[] pathResponses) {
+        Station source = stationRegistry.findById(sourceId);
+        List<Integer> shortestIndexes = new ArrayList<>();
+        for (int index : indexes) {
+            PathRequest pathRequest = pathRequests.get(index);
+            RouteMode routeMode = RouteMode.from(pathRequest.getMode());
+            if (routeMode == RouteMode.DISTANCE) {
+                shortestIndexes.add(index);
+                continue;
+            }
+            Path path = routeMode.find(pathAlgorithm, source, stationRegistry.findById(pathRequest.getTarget()));
+            pathResponses[index] = toResponse(path, pathRequest);
+        }
+
+        List<Station> targets = shortestIndexes.stream()
+                .map(index -> stationRegistry.findById(pathRequests.get(index).getTarget()))
+                .collect(Collectors.toList());
+        List<Path> paths = pathAlgorithm.getPaths(source, targets);
+        for (int i = 0; i < shortestIndexes.size(); i++) {
+            int index = shortestIndexes.get(i);
+            pathResponses[index] = toResponse(paths.get(i), pathRequests.get(index));
+        }
+    }
 
-        Station sourceStation = stationDao.findById(pathRequest.getSource());
-        Station targetStation = stationDao.findById(pathRequest.getTarget());
-        Path path = pathAlgorithm.getPath(sourceStation, targetStation);
-        Fare fare = path.calculateFare(new Age(pathRequest.getAge()));
+    public List<PathResponse> getAlternativePaths(AlternativePathRequest alternativePathRequest) {
+        PathAlgorithm pathAlgorithm = subwayNetwork.getSnapshot().getPathAlgorithm();
+        Station source = stationRegistry.findById(alternativePathRequest.getSource());
+        Station target = stationRegistry.findById(alternativePathRequest.getTarget());
+        int count = Objects.requireNonNullElse(alternativePathRequest.getCount(), DEFAULT_ALTERNATIVE_COUNT);
+        double maxDetour = Objects.requireNonNullElse(alternativePathRequest.getMaxDetour(), DEFAULT_MAX_DETOUR);
 
+        Age age = new Age(alternativePathRequest.getAge());
+        return pathAlgorithm.getAlternativePaths(source, target, count, maxDetour).stream()
+                .map(path -> toResponse(path, age))
+                .collect(Collectors.toList());
+    }
+
+    public DestinationSearch findDestinations(DestinationRequest destinationRequest) {
+        PathAlgorithm pathAlgorithm = subwayNetwork.getSnapshot().getPathAlgorithm();
+        Station source = stationRegistry.findById(destinationRequest.getSource());
+        Age age = new Age(destinationRequest.getAge());
+        PathBudget budget = toBudget(destinationRequest, age);
+        return new DestinationSearch(pathAlgorithm, source, budget, age);
+    }
+
+    private PathBudget toBudget(DestinationRequest destinationRequest, Age age) {
+        Double maxDistance = destinationRequest.getMaxDistance();
+        Integer maxFare = destinationRequest.getMaxFare();
+        if (Objects.isNull(maxDistance) == Objects.isNull(maxFare)) {
+            throw new IllegalArgumentException("거리 한도와 요금 한도 중 하나만 입력해야 합니다.");
+        }
+        if (Objects.nonNull(maxDistance)) {
+            return PathBudget.ofDistance(Distance.fromKilometer(maxDistance));
+        }
+        return PathBudget.ofFare(new Fare(maxFare), age);
+    }
+
+    private Map<Long, List<Integer>> groupBySource(List<PathRequest> pathRequests) {
+        Map<Long, List<Integer>> indexesBySource = new LinkedHashMap<>();
+        for (int i = 0; i < pathRequests.size(); i++) {
+            indexesBySource.computeIfAbsent(pathRequests.get(i).getSource(), source -> new ArrayList<>())
+                    .add(i);
+        }
+        return indexesBySource;
+    }
+
+    private PathResponse toResponse(Path path, PathRequest pathRequest) {
+        return toResponse(path, new Age(pathRequest.getAge()));
+    }
+
+    private PathResponse toResponse(Path path, Age age) {
+        Fare fare = path.calculateFare(age);
         return new PathResponse(StationResponse.of(path.getStations()), path.getDistance(), fare.getValue());
     }
 
-    private PathAlgorithm makePathAlgorithmFrom(List<Section> sections) {
-        Map<Section, Fare> edges = sections.stream()
-                .collect(Collectors.toMap(
-                        (section) -> section,
-                        (section) -> sectionDao.findExtraFareById(section.getId())
-                ));
-        return new ShortestPath(edges);
+    private Path findPath(PathAlgorithm pathAlgorithm, RouteMode routeMode, PathRequest pathRequest,
+                          PathTimer timer) {
+        timer.lap(PathPhase.CACHE);
+        Station sourceStation = stationRegistry.findById(pathRequest.getSource());
+        Station targetStation = stationRegistry.findById(pathRequest.getTarget());
+        timer.lap(PathPhase.STATION);
+
+        SearchCounter counter = SearchCounter.current();
+        long settledCount = counter.getSettledCount();
+        long relaxedCount = counter.getRelaxedCount();
+        Path path = routeMode.find(pathAlgorithm, sourceStation, targetStation);
+        timer.searched(counter.getSettledCount() - settledCount, counter.getRelaxedCount() - relaxedCount,
+                path.getStations().size());
+        timer.lap(PathPhase.SEARCH);
+        return path;
     }
 }
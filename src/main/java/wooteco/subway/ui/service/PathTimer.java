@@ -0,0 +1,83 @@
+package wooteco.subway.ui.service;
+
+public class PathTimer {
+    private static final PathPhase[] PHASES = PathPhase.values();
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final long MICROS_PER_MILLI = 1_000;
+
+    private final long startedAt;
+    private final long[] phaseNanos = new long[PHASES.length];
+    private long lastLap;
+    private boolean searched;
+    private long settledCount;
+    private long relaxedCount;
+    private int pathLength;
+
+    public PathTimer() {
+        this.startedAt = System.nanoTime();
+        this.lastLap = startedAt;
+    }
+
+    void lap(PathPhase phase) {
+        long now = System.nanoTime();
+        phaseNanos[phase.ordinal()] += now - lastLap;
+        lastLap = now;
+    }
+
+    void searched(long settledCount, long relaxedCount, int pathLength) {
+        this.searched = true;
+        this.settledCount = settledCount;
+        this.relaxedCount = relaxedCount;
+        this.pathLength = pathLength;
+    }
+
+    public String toServerTiming() {
+        StringBuilder serverTiming = new StringBuilder();
+        for (PathPhase phase : PHASES) {
+            appendMetric(serverTiming, phase.getMetricName(), getNanos(phase));
+            serverTiming.append(", ");
+        }
+        appendMetric(serverTiming, "total", getTotalNanos());
+        return serverTiming.toString();
+    }
+
+    private void appendMetric(StringBuilder serverTiming, String name, long nanos) {
+        long micros = Math.round(nanos / NANOS_PER_MICRO);
+        long fraction = micros % MICROS_PER_MILLI;
+        serverTiming.append(name)
+                .append(";dur=")
+                .append(micros / MICROS_PER_MILLI)
+                .append('.');
+        if (fraction < 100) {
+            serverTiming.append('0');
+        }
+        if (fraction < 10) {
+            serverTiming.append('0');
+        }
+        serverTiming.append(fraction);
+    }
+
+    long getNanos(PathPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    long getTotalNanos() {
+        return lastLap - startedAt;
+    }
+
+    boolean isSearched() {
+        return searched;
+    }
+
+    long getSettledCount() {
+        return settledCount;
+    }
+
+    long getRelaxedCount() {
+        return relaxedCount;
+    }
+
+    int getPathLength() {
+        return pathLength;
+    }
+}
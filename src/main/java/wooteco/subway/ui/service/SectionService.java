@@ -1,10 +1,14 @@
 package wooteco.subway.ui.service;
 
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import wooteco.subway.dao.LineDao;
 import wooteco.subway.dao.SectionDao;
-import wooteco.subway.dao.StationDao;
+import wooteco.subway.dao.StationRegistry;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.NetworkDelta;
 import wooteco.subway.domain.section.Distance;
 import wooteco.subway.domain.Line;
 import wooteco.subway.domain.section.Section;
@@ -15,34 +19,48 @@ import wooteco.subway.dto.request.SectionRequest;
 public class SectionService {
     private final SectionDao sectionDao;
     private final LineDao lineDao;
-    private final StationDao stationDao;
+    private final StationRegistry stationRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public SectionService(SectionDao sectionDao, LineDao lineDao, StationDao stationDao) {
+    public SectionService(SectionDao sectionDao, LineDao lineDao, StationRegistry stationRegistry,
+                          ApplicationEventPublisher eventPublisher) {
         this.sectionDao = sectionDao;
         this.lineDao = lineDao;
-        this.stationDao = stationDao;
+        this.stationRegistry = stationRegistry;
+        this.eventPublisher = eventPublisher;
     }
 
     public void add(SectionRequest sectionRequest, Long lineId) {
-        Station upStation = stationDao.findById(sectionRequest.getUpStationId());
-        Station downStation = stationDao.findById(sectionRequest.getDownStationId());
+        Station upStation = stationRegistry.findById(sectionRequest.getUpStationId());
+        Station downStation = stationRegistry.findById(sectionRequest.getDownStationId());
         Distance distance = Distance.fromMeter(sectionRequest.getDistance());
         Section section = new Section(upStation, downStation, distance);
 
         Line line = lineDao.findById(lineId);
+        List<Section> before = line.getSections();
         line.addSection(section);
-        sectionDao.save(line.getSections(), line.getId());
+        List<Section> after = sectionDao.save(before, line.getSections(), line.getId());
+        publishDelta(lineId, before, after);
     }
 
     @Transactional
     public void delete(Long lineId, Long stationId) {
         Line line = lineDao.findById(lineId);
-        Station station = stationDao.findById(stationId);
+        Station station = stationRegistry.findById(stationId);
+        List<Section> before = line.getSections();
         sectionDao.delete(line.delete(station));
-        sectionDao.save(line.getSections(), line.getId());
+        List<Section> after = sectionDao.save(before, line.getSections(), line.getId());
+        publishDelta(lineId, before, after);
+    }
+
+    private void publishDelta(Long lineId, List<Section> before, List<Section> after) {
+        Fare extraFare = lineDao.findExtraFareById(lineId);
+        eventPublisher.publishEvent(new NetworkChangedEvent(NetworkDelta.between(before, after, extraFare)));
     }
 
     public void deleteByLine(Long id) {
+        List<Section> sections = lineDao.findById(id).getSections();
         sectionDao.deleteByLine(id);
+        eventPublisher.publishEvent(new NetworkChangedEvent(NetworkDelta.removed(sections)));
     }
 }
@@ -0,0 +1,4 @@
+package wooteco.subway.ui.service;
+
+public class StationChangedEvent {
+}
@@ -2,9 +2,11 @@ package wooteco.subway.ui.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import wooteco.subway.dao.StationDao;
+import wooteco.subway.dao.StationRegistry;
 import wooteco.subway.domain.Station;
 import wooteco.subway.dto.request.StationRequest;
 import wooteco.subway.dto.response.StationResponse;
@@ -12,14 +14,20 @@ import wooteco.subway.dto.response.StationResponse;
 @Service
 public class StationService {
     private StationDao stationDao;
+    private final StationRegistry stationRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public StationService(StationDao stationDao) {
+    public StationService(StationDao stationDao, StationRegistry stationRegistry,
+                          ApplicationEventPublisher eventPublisher) {
         this.stationDao = stationDao;
+        this.stationRegistry = stationRegistry;
+        this.eventPublisher = eventPublisher;
     }
 
     public StationResponse create(StationRequest stationRequest) {
         Station station = new Station(stationRequest.getName());
-        Station newStation = stationDao.save(station);
+        Station newStation = stationRegistry.register(stationDao.save(station));
+        eventPublisher.publishEvent(new StationChangedEvent());
         return StationResponse.from(newStation);
     }
 
@@ -30,5 +38,7 @@ public class StationService {
 
     public void delete(Long id) {
         stationDao.deleteById(id);
+        stationRegistry.remove(id);
+        eventPublisher.publishEvent(new StationChangedEvent());
     }
 }
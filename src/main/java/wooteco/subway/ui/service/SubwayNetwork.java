@@ -0,0 +1,196 @@
+package wooteco.subway.ui.service;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import wooteco.subway.dao.SectionDao;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.NetworkDelta;
+import wooteco.subway.domain.path.PathAlgorithm;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.support.AllPairsShortestPath;
+import wooteco.subway.support.CompactGraph;
+import wooteco.subway.support.GraphSnapshotFile;
+import wooteco.subway.support.PathAlgorithmType;
+
+@Component
+public class SubwayNetwork {
+    private static final long MAX_VALIDATION_DELAY_SECONDS = 60;
+
+    private final SectionDao sectionDao;
+    private final PathAlgorithmType pathAlgorithmType;
+    private final int precomputeThreshold;
+    private final Path snapshotFile;
+    private final AtomicReference<NetworkSnapshot> snapshot = new AtomicReference<>();
+    private long version;
+    private long mappedFingerprint;
+    private volatile boolean mapped;
+    private volatile ScheduledExecutorService validator;
+
+    public SubwayNetwork(SectionDao sectionDao,
+                         @Value("${subway.path.algorithm:jgrapht}") PathAlgorithmType pathAlgorithmType,
+                         @Value("${subway.path.precompute-threshold:0}") int precomputeThreshold,
+                         @Value("${subway.path.snapshot-file:}") String snapshotFile) {
+        this.sectionDao = sectionDao;
+        this.pathAlgorithmType = pathAlgorithmType;
+        checkPrecomputeThreshold(precomputeThreshold);
+        this.precomputeThreshold = precomputeThreshold;
+        this.snapshotFile = snapshotFile.isBlank() ? null : Path.of(snapshotFile);
+    }
+
+    private void checkPrecomputeThreshold(int precomputeThreshold) {
+        if (precomputeThreshold < 0) {
+            throw new IllegalArgumentException("미리 계산할 역 수는 0 이상이어야 합니다.");
+        }
+        int maxVertexCount = AllPairsShortestPath.getMaxVertexCount();
+        if (precomputeThreshold > maxVertexCount) {
+            throw new IllegalArgumentException(
+                    "미리 계산할 역 수는 현재 메모리에서 " + maxVertexCount + " 이하여야 합니다.");
+        }
+    }
+
+    public NetworkSnapshot getSnapshot() {
+        NetworkSnapshot current = snapshot.get();
+        if (Objects.isNull(current)) {
+            return refresh();
+        }
+        return current;
+    }
+
+    @PostConstruct
+    public synchronized void loadSnapshotFile() {
+        if (Objects.isNull(snapshotFile) || !Files.exists(snapshotFile)) {
+            return;
+        }
+        try {
+            GraphSnapshotFile file = GraphSnapshotFile.read(snapshotFile);
+            mappedFingerprint = file.getFingerprint();
+            publish(file.getGraph());
+            mapped = true;
+        } catch (IllegalStateException | UncheckedIOException e) {
+            mapped = false;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (mapped) {
+            validator = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "graph-snapshot-validator");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduleValidation(0);
+            return;
+        }
+        refresh();
+        writeSnapshotFile();
+    }
+
+    private void scheduleValidation(long delaySeconds) {
+        validator.schedule(() -> {
+            try {
+                validateSnapshotFile();
+                validator.shutdown();
+            } catch (RuntimeException e) {
+                scheduleValidation(Math.min(Math.max(delaySeconds * 2, 1), MAX_VALIDATION_DELAY_SECONDS));
+            }
+        }, delaySeconds, TimeUnit.SECONDS);
+    }
+
+    void validateSnapshotFile() {
+        if (!mapped) {
+            return;
+        }
+        Map<Section, Fare> edges = sectionDao.findAllWithExtraFare();
+        if (GraphSnapshotFile.fingerprint(edges) != mappedFingerprint) {
+            refresh();
+            writeSnapshotFile();
+            return;
+        }
+        mapped = false;
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void onContextClosed() {
+        if (Objects.nonNull(validator)) {
+            validator.shutdownNow();
+        }
+        writeSnapshotFile();
+    }
+
+    public boolean writeSnapshotFile() {
+        NetworkSnapshot current = snapshot.get();
+        if (Objects.isNull(snapshotFile) || Objects.isNull(current)) {
+            return false;
+        }
+        try {
+            GraphSnapshotFile.write(snapshotFile, current.getGraph());
+            return true;
+        } catch (UncheckedIOException e) {
+            return false;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkChanged(NetworkChangedEvent event) {
+        if (event.hasDelta()) {
+            apply(event.getDelta());
+            return;
+        }
+        refresh();
+    }
+
+    public synchronized NetworkSnapshot refresh() {
+        Map<Section, Fare> edges = sectionDao.findAllWithExtraFare();
+        NetworkSnapshot next = publish(CompactGraph.from(edges));
+        mapped = false;
+        return next;
+    }
+
+    public synchronized NetworkSnapshot apply(NetworkDelta delta) {
+        NetworkSnapshot current = snapshot.get();
+        if (Objects.isNull(current)) {
+            return refresh();
+        }
+        if (delta.isEmpty()) {
+            return current;
+        }
+        try {
+            return publish(current.getGraph().apply(delta));
+        } catch (RuntimeException e) {
+            return refresh();
+        }
+    }
+
+    private NetworkSnapshot publish(CompactGraph graph) {
+        NetworkSnapshot next = new NetworkSnapshot(++version, graph, createPathAlgorithm(graph));
+        snapshot.set(next);
+        return next;
+    }
+
+    private PathAlgorithm createPathAlgorithm(CompactGraph graph) {
+        int vertexCount = graph.getVertexCount();
+        if (precomputeThreshold > 0 && vertexCount <= precomputeThreshold
+                && vertexCount <= AllPairsShortestPath.getMaxVertexCount()) {
+            return new AllPairsShortestPath(graph);
+        }
+        return pathAlgorithmType.create(graph);
+    }
+}
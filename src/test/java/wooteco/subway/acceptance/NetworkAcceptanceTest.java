@@ -0,0 +1,125 @@
+package wooteco.subway.acceptance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+
+import wooteco.subway.acceptance.fixture.SimpleResponse;
+import wooteco.subway.acceptance.fixture.SimpleRestAssured;
+import wooteco.subway.dto.response.LineResponse;
+import wooteco.subway.dto.response.NetworkImportResponse;
+import wooteco.subway.dto.response.PathResponse;
+import wooteco.subway.dto.response.StationResponse;
+
+public class NetworkAcceptanceTest extends AcceptanceTest {
+
+    @Test
+    @DisplayName("CSV로 노선도를 한 번에 가져온다.")
+    public void importCsv() {
+        // given
+        SimpleRestAssured.post("/stations", Map.of("name", "강남역"));
+        String csv = "line,color,extraFare,upStation,downStation,distance\n"
+                + "신분당선,bg-red-600,900,강남역,양재역,10\n"
+                + "신분당선,bg-red-600,900,양재역,판교역,20\n"
+                + "신분당선,bg-red-600,900,강남역,양재시민의숲역,5\n"
+                + "2호선,bg-green-600,0,역삼역,강남역,7\n";
+
+        // when
+        SimpleResponse response = SimpleRestAssured.post("/network/import", csv, "text/csv");
+        NetworkImportResponse importResponse = response.toObject(NetworkImportResponse.class);
+        List<LineResponse> lines = SimpleRestAssured.get("/lines").toList(LineResponse.class);
+        PathResponse path = SimpleRestAssured.get("/paths?source=5&target=3&age=25").toObject(PathResponse.class);
+
+        // then
+        assertAll(
+                () -> response.assertStatus(HttpStatus.OK),
+                () -> assertThat(importResponse.getStationCount()).isEqualTo(4),
+                () -> assertThat(importResponse.getLineCount()).isEqualTo(2),
+                () -> assertThat(importResponse.getSectionCount()).isEqualTo(4),
+                () -> assertThat(lines).hasSize(2),
+                () -> assertThat(path.getStationResponses()).extracting(StationResponse::getName)
+                        .containsExactly("역삼역", "강남역", "양재시민의숲역", "양재역", "판교역"),
+                () -> assertThat(path.getDistance()).isCloseTo(0.037, within(1e-9))
+        );
+    }
+
+    @Test
+    @DisplayName("JSON으로 노선도를 한 번에 가져온다.")
+    public void importJson() {
+        // given
+        List<Map<String, Object>> rows = List.of(
+                Map.of("line", "신분당선", "color", "bg-red-600", "extraFare", 0,
+                        "upStation", "강남역", "downStation", "양재역", "distance", 10),
+                Map.of("line", "신분당선", "color", "bg-red-600", "extraFare", 0,
+                        "upStation", "양재역", "downStation", "판교역", "distance", 10)
+        );
+
+        // when
+        SimpleResponse response = SimpleRestAssured.post("/network/import", (Object) rows);
+        NetworkImportResponse importResponse = response.toObject(NetworkImportResponse.class);
+
+        // then
+        assertAll(
+                () -> assertThat(importResponse.getStationCount()).isEqualTo(3),
+                () -> assertThat(importResponse.getSectionCount()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("이어지지 않는 구간이 있으면 아무것도 가져오지 않는다.")
+    public void import_disconnected() {
+        // given
+        String csv = "line,color,extraFare,upStation,downStation,distance\n"
+                + "신분당선,bg-red-600,0,강남역,양재역,10\n"
+                + "신분당선,bg-red-600,0,역삼역,선릉역,10\n";
+
+        // when
+        SimpleResponse response = SimpleRestAssured.post("/network/import", csv, "text/csv");
+        List<StationResponse> stations = SimpleRestAssured.get("/stations").toList(StationResponse.class);
+
+        // then
+        assertAll(
+                () -> response.assertStatus(HttpStatus.BAD_REQUEST),
+                () -> assertThat(response.containsExceptionMessage("2번째 구간을 가져올 수 없습니다.")).isTrue(),
+                () -> assertThat(stations).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("JSON 본문이 중간에 깨져 있으면 몇 번째 구간인지 알려주고 아무것도 가져오지 않는다.")
+    public void import_malformedJson() {
+        // given
+        String json = "[{\"line\":\"신분당선\",\"color\":\"bg-red-600\",\"extraFare\":0,"
+                + "\"upStation\":\"강남역\",\"downStation\":\"양재역\",\"distance\":10},"
+                + "{\"line\":\"신분당선\",\"color\"";
+
+        // when
+        SimpleResponse response = SimpleRestAssured.post("/network/import", json, "application/json");
+        List<StationResponse> stations = SimpleRestAssured.get("/stations").toList(StationResponse.class);
+
+        // then
+        assertAll(
+                () -> response.assertStatus(HttpStatus.BAD_REQUEST),
+                () -> assertThat(response.containsExceptionMessage("2번째 구간을 읽을 수 없습니다.")).isTrue(),
+                () -> assertThat(stations).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("CSV 첫 줄이 형식과 다르면 예외가 발생한다.")
+    public void import_invalidHeader() {
+        // when
+        SimpleResponse response = SimpleRestAssured.post("/network/import", "강남역,양재역,10\n", "text/csv");
+
+        // then
+        response.assertStatus(HttpStatus.BAD_REQUEST);
+    }
+}
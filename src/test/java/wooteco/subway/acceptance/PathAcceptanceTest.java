@@ -3,13 +3,18 @@ package wooteco.subway.acceptance;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.http.HttpStatus;
+
 import wooteco.subway.acceptance.fixture.SimpleResponse;
 import wooteco.subway.acceptance.fixture.SimpleRestAssured;
+import wooteco.subway.dto.response.DestinationResponse;
+import wooteco.subway.dto.response.PathMetricsResponse;
 import wooteco.subway.dto.response.PathResponse;
 
 public class PathAcceptanceTest extends AcceptanceTest {
@@ -119,4 +124,344 @@ public class PathAcceptanceTest extends AcceptanceTest {
                 () -> assertThat(pathResponse.getFare()).isEqualTo(1120)
         );
     }
+
+    @Test
+    @DisplayName("노선이 추가되면 추가된 노선을 포함하여 최단 경로를 조회한다.")
+    public void getPath_afterLineCreated() {
+        // given
+        SimpleRestAssured.post("/stations", Map.of("name", "강남역"));
+        SimpleRestAssured.post("/stations", Map.of("name", "역삼역"));
+        SimpleRestAssured.post("/stations", Map.of("name", "선릉역"));
+        SimpleRestAssured.post("/lines", Map.of(
+                "name", "신분당선",
+                "color", "bg-red-600",
+                "upStationId", "1",
+                "downStationId", "2",
+                "distance", "10"
+        ));
+        SimpleRestAssured.post("/lines/1/sections", Map.of(
+                "upStationId", "2",
+                "downStationId", "3",
+                "distance", "5"
+        ));
+        SimpleRestAssured.get("/paths?source=1&target=3&age=25");
+
+        // when
+        SimpleRestAssured.post("/lines", Map.of(
+                "name", "2호선",
+                "color", "bg-green-600",
+                "upStationId", "1",
+                "downStationId", "3",
+                "distance", "3",
+                "extraFare", "500"
+        ));
+        SimpleResponse response = SimpleRestAssured.get("/paths?source=1&target=3&age=25");
+        PathResponse pathResponse = response.toObject(PathResponse.class);
+
+        // then
+        assertAll(
+                () -> assertThat(pathResponse.getDistance()).isEqualTo(0.003),
+                () -> assertThat(pathResponse.getStationResponses()).hasSize(2),
+                () -> assertThat(pathResponse.getFare()).isEqualTo(1750)
+        );
+    }
+
+    @Test
+    @DisplayName("구간이 삭제되면 삭제된 구간을 제외하고 경로를 조회한다.")
+    public void getPath_afterSectionDeleted() {
+        // given
+        SimpleRestAssured.post("/stations", Map.of("name", "강남역"));
+        SimpleRestAssured.post("/stations", Map.of("name", "역삼역"));
+        SimpleRestAssured.post("/stations", Map.of("name", "선릉역"));
+        SimpleRestAssured.post("/lines", Map.of(
+                "name", "신분당선",
+                "color", "bg-red-600",
+                "upStationId", "1",
+                "downStationId", "2",
+                "distance", "10"
+        ));
+        SimpleRestAssured.post("/lines/1/sections", Map.of(
+                "upStationId", "2",
+                "downStationId", "3",
+                "distance", "5"
+        ));
+        SimpleRestAssured.get("/paths?source=1&target=3&age=25");
+
+        // when
+        SimpleRestAssured.delete("/lines/1/sections?stationId=3");
+        SimpleResponse response = SimpleRestAssured.get("/paths?source=1&target=3&age=25");
+
+        // then
+        response.assertStatus(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("요금 기준으로 조회하면 추가 요금이 없는 더 긴 경로를 찾는다.")
+    public void getPath_cheapest() {
+        // given
+        SimpleRestAssured.post("/stations", Map.of("name", "강남역"));
+        SimpleRestAssured.post("/stations", Map.of("name", "역삼역"));
+        SimpleRestAssured.post("/stations", Map.of("name", "선릉역"));
+        SimpleRestAssured.post("/lines", Map.of(
+                "name", "신분당선",
+                "color", "bg-red-600",
+                "upStationId", "1",
+                "downStationId", "2",
+                "distance", "10000",
+                "extraFare", "900"
+        ));
+        SimpleRestAssured.post("/lines", Map.of(
+                "name", "2호선",
+                "color", "bg-green-600",
+                "upStationId", "1",
+                "downStationId", "3",
+                "distance", "6000"
+        ));
+        SimpleRestAssured.post("/lines/2/sections", Map.of(
+                "upStationId", "3",
+                "downStationId", "2",
+                "distance", "6000"
+        ));
+
+        // when
+        SimpleResponse response = SimpleRestAssured.get("/paths?source=1&target=2&age=25&mode=fare");
+        PathResponse pathResponse = response.toObject(PathResponse.class);
+
+        // then
+        assertAll(
+                () -> assertThat(pathResponse.getDistance()).isEqualTo(12),
+                () -> assertThat(pathResponse.getStationResponses()).hasSize(3),
+                () -> assertThat(pathResponse.getFare()).isEqualTo(1350)
+        );
+    }
+
+    @Test
+    @DisplayName("여러 출발역과 도착역의 경로를 한 번에 조회한다.")
+    public void getPaths() {
+        // given
+        SimpleRestAssured.post("/stations", Map.of("name", "강남역"));
+        SimpleRestAssured.post("/stations", Map.of("name", "역삼역"));
+        SimpleRestAssured.post("/stations", Map.of("name", "선릉역"));
+        SimpleRestAssured.post("/lines", Map.of(
+                "name", "신분당선",
+                "color", "bg-red-600",
+                "upStationId", "1",
+                "downStationId", "2",
+                "distance", "10",
+                "extraFare", "300"
+        ));
+        SimpleRestAssured.post("/lines/1/sections", Map.of(
+                "upStationId", "2",
+                "downStationId", "3",
+                "distance", "5"
+        ));
+
+        // when
+        SimpleResponse response = SimpleRestAssured.post("/paths/batch", Map.of("paths", List.of(
+                Map.of("source", 1, "target", 3, "age", 25),
+                Map.of("source", 3, "target", 2, "age", 15),
+                Map.of("source", 1, "target", 2, "age", 8)
+        )));
+        List<PathResponse> pathResponses = response.toList(PathResponse.class);
+
+        // then
+        assertAll(
+                () -> assertThat(pathResponses).hasSize(3),
+                () -> assertThat(pathResponses.get(0).getDistance()).isEqualTo(0.015),
+                () -> assertThat(pathResponses.get(0).getFare()).isEqualTo(1550),
+                () -> assertThat(pathResponses.get(1).getStationResponses()).hasSize(2),
+                () -> assertThat(pathResponses.get(1).getFare()).isEqualTo(960),
+                () -> assertThat(pathResponses.get(2).getFare()).isEqualTo(600)
+        );
+    }
+
+    @Test
+    @DisplayName("여러 경로 중 존재하지 않는 역이 있으면 예외가 발생한다.")
+    public void getPaths_no_such_station() {
+        // given
+        SimpleRestAssured.post("/stations", Map.of("name", "강남역"));
+        SimpleRestAssured.post("/stations", Map.of("name", "역삼역"));
+        SimpleRestAssured.post("/lines", Map.of(
+                "name", "신분당선",
+                "color", "bg-red-600",
+                "upStationId", "1",
+                "downStationId", "2",
+                "distance", "10"
+        ));
+
+        // when
+        SimpleResponse response = SimpleRestAssured.post("/paths/batch", Map.of("paths", List.of(
+                Map.of("source", 1, "target", 2, "age", 25),
+                Map.of("source", 1, "target", 9, "age", 25)
+        )));
+
+        // then
+        response.assertStatus(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("최단 경로와 우회 비율 안의 대안 경로를 요금과 함께 조회한다.")
+    public void getAlternativePaths() {
+        // given
+        SimpleRestAssured.post("/stations", Map.of("name", "강남역"));
+        SimpleRestAssured.post("/stations", Map.of("name", "역삼역"));
+        SimpleRestAssured.post("/stations", Map.of("name", "선릉역"));
+        SimpleRestAssured.post("/lines", Map.of(
+                "name", "신분당선",
+                "color", "bg-red-600",
+                "upStationId", "1",
+                "downStationId", "2",
+                "distance", "5"
+        ));
+        SimpleRestAssured.post("/lines", Map.of(
+                "name", "2호선",
+                "color", "bg-green-600",
+                "upStationId", "2",
+                "downStationId", "3",
+                "distance", "5"
+        ));
+        SimpleRestAssured.post("/lines", Map.of(
+                "name", "분당선",
+                "color", "bg-yellow-600",
+                "upStationId", "1",
+                "downStationId", "3",
+                "distance", "12",
+                "extraFare", "300"
+        ));
+
+        // when
+        SimpleResponse response = SimpleRestAssured.get("/paths/alternatives?source=1&target=3&age=25&count=3&maxDetour=1.5");
+        List<PathResponse> paths = response.toList(PathResponse.class);
+
+        // then
+        assertAll(
+                () -> response.assertStatus(HttpStatus.OK),
+                () -> assertThat(paths).hasSize(2),
+                () -> assertThat(paths.get(0).getDistance()).isEqualTo(0.01),
+                () -> assertThat(paths.get(0).getFare()).isEqualTo(1250),
+                () -> assertThat(paths.get(1).getDistance()).isEqualTo(0.012),
+                () -> assertThat(paths.get(1).getFare()).isEqualTo(1550)
+        );
+    }
+
+    @Test
+    @DisplayName("대안 경로 개수가 상한을 넘으면 예외가 발생한다.")
+    public void getAlternativePaths_too_many() {
+        // when
+        SimpleResponse response = SimpleRestAssured.get("/paths/alternatives?source=1&target=3&age=25&count=6");
+
+        // then
+        response.assertStatus(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("요금 한도 안에서 도달할 수 있는 역을 조회한다.")
+    public void getDestinations() {
+        // given
+        SimpleRestAssured.post("/stations", Map.of("name", "강남역"));
+        SimpleRestAssured.post("/stations", Map.of("name", "역삼역"));
+        SimpleRestAssured.post("/stations", Map.of("name", "선릉역"));
+        SimpleRestAssured.post("/lines", Map.of(
+                "name", "신분당선",
+                "color", "bg-red-600",
+                "upStationId", "1",
+                "downStationId", "2",
+                "distance", "10"
+        ));
+        SimpleRestAssured.post("/lines", Map.of(
+                "name", "2호선",
+                "color", "bg-green-600",
+                "upStationId", "2",
+                "downStationId", "3",
+                "distance", "10",
+                "extraFare", "500"
+        ));
+
+        // when
+        SimpleResponse response = SimpleRestAssured.get("/paths/destinations?source=1&age=25&maxFare=1250");
+        List<DestinationResponse> destinations = response.toList(DestinationResponse.class);
+
+        // then
+        assertAll(
+                () -> assertThat(destinations).hasSize(1),
+                () -> assertThat(destinations.get(0).getName()).isEqualTo("역삼역"),
+                () -> assertThat(destinations.get(0).getFare()).isEqualTo(1250)
+        );
+    }
+
+    @Test
+    @DisplayName("거리 한도와 요금 한도를 모두 입력하면 예외가 발생한다.")
+    public void getDestinations_both_budget() {
+        // given
+        SimpleRestAssured.post("/stations", Map.of("name", "강남역"));
+        SimpleRestAssured.post("/stations", Map.of("name", "역삼역"));
+        SimpleRestAssured.post("/lines", Map.of(
+                "name", "신분당선",
+                "color", "bg-red-600",
+                "upStationId", "1",
+                "downStationId", "2",
+                "distance", "10"
+        ));
+
+        // when
+        SimpleResponse response = SimpleRestAssured.get("/paths/destinations?source=1&age=25&maxFare=1250&maxDistance=10");
+
+        // then
+        response.assertStatus(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("구간이 없는 역에서 도달 가능한 역을 조회하면 예외 응답만 반환한다.")
+    public void getDestinations_station_without_section() {
+        // given
+        SimpleRestAssured.post("/stations", Map.of("name", "강남역"));
+        SimpleRestAssured.post("/stations", Map.of("name", "역삼역"));
+        SimpleRestAssured.post("/stations", Map.of("name", "선릉역"));
+        SimpleRestAssured.post("/lines", Map.of(
+                "name", "신분당선",
+                "color", "bg-red-600",
+                "upStationId", "1",
+                "downStationId", "2",
+                "distance", "10"
+        ));
+
+        // when
+        SimpleResponse response = SimpleRestAssured.get("/paths/destinations?source=3&age=25&maxDistance=10");
+
+        // then
+        assertAll(
+                () -> response.assertStatus(HttpStatus.BAD_REQUEST),
+                () -> assertThat(response.containsExceptionMessage("해당 역은 경로에 존재하지 않습니다.")).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("경로를 조회하면 단계별 처리 시간을 Server-Timing 헤더와 지표로 제공한다.")
+    public void getPath_metrics() {
+        // given
+        SimpleRestAssured.post("/stations", Map.of("name", "강남역"));
+        SimpleRestAssured.post("/stations", Map.of("name", "역삼역"));
+        SimpleRestAssured.post("/lines", Map.of(
+                "name", "신분당선",
+                "color", "bg-red-600",
+                "upStationId", "1",
+                "downStationId", "2",
+                "distance", "10"
+        ));
+
+        // when
+        SimpleResponse response = SimpleRestAssured.get("/paths?source=1&target=2&age=25");
+        PathMetricsResponse metrics = SimpleRestAssured.get("/metrics/paths").toObject(PathMetricsResponse.class);
+
+        // then
+        assertAll(
+                () -> assertThat(response.getHeader("Server-Timing"))
+                        .contains("cache;dur=", "station;dur=", "search;dur=", "fare;dur=", "total;dur="),
+                () -> assertThat(metrics.getLatencies()).containsKeys("cache", "station", "search", "fare", "total"),
+                () -> assertThat(metrics.getLatencies().get("total").getCount()).isPositive(),
+                () -> assertThat(metrics.getPathLength().getMax()).isGreaterThanOrEqualTo(2),
+                () -> assertThat(metrics.getStationHitCount()).isPositive(),
+                () -> assertThat(metrics.getCacheEvictionCount()).isZero()
+        );
+    }
 }
@@ -21,6 +21,20 @@ public class SimpleRestAssured {
                 .when().post(path));
     }
 
+    public static SimpleResponse post(String path, Object body) {
+        return new SimpleResponse(given()
+                .body(body)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post(path));
+    }
+
+    public static SimpleResponse post(String path, String body, String contentType) {
+        return new SimpleResponse(given()
+                .body(body)
+                .contentType(contentType)
+                .when().post(path));
+    }
+
     public static SimpleResponse put(String path, Map<String, String> params) {
         return new SimpleResponse(given()
                 .body(params)
@@ -2,12 +2,15 @@ package wooteco.subway.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
 import static wooteco.subway.dao.Fixture.FARE_1000;
 import static wooteco.subway.dao.Fixture.LINE_신분당선;
+import static wooteco.subway.dao.Fixture.SECTION_TERMINATIONS;
 import static wooteco.subway.dao.Fixture.TERMINATION_DOWN;
 import static wooteco.subway.dao.Fixture.TERMINATION_UP;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,15 +22,20 @@ import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.context.annotation.Import;
 
 import wooteco.subway.domain.Line;
+import wooteco.subway.domain.Station;
 import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
 
 @JdbcTest
-@Import({JdbcLineDao.class, JdbcStationDao.class})
+@Import({JdbcLineDao.class, JdbcSectionDao.class, JdbcStationDao.class, StationRegistry.class})
 class LineDaoTest {
     @Autowired
     private LineDao linDao;
     @Autowired
     private StationDao stationDao;
+    @Autowired
+    private SectionDao sectionDao;
 
     @BeforeEach
     void setUp() {
@@ -74,6 +82,32 @@ class LineDaoTest {
         assertThat(lines).hasSize(1);
     }
 
+    @Test
+    @DisplayName("전체 노선을 추가 요금, 순서대로 정렬된 구간과 함께 조회한다")
+    public void findAllWithExtraFare() {
+        // given
+        Station 강남 = stationDao.save(new Station("강남역"));
+        Station 양재 = stationDao.save(new Station("양재역"));
+        Station 판교 = stationDao.save(new Station("판교역"));
+        Line 신분당선 = linDao.save(LINE_신분당선, FARE_1000);
+        sectionDao.save(List.of(
+                new Section(강남, 양재, Distance.fromMeter(5)),
+                new Section(양재, 판교, Distance.fromMeter(5))
+        ), 신분당선.getId());
+        Line 이호선 = linDao.save(new Line("2호선", "bg-green-600", SECTION_TERMINATIONS), new Fare(0));
+        sectionDao.save(new Section(강남, 판교, Distance.fromMeter(10)), 이호선.getId());
+        // when
+        Map<Line, Fare> lines = linDao.findAllWithExtraFare();
+        // then
+        assertThat(lines.entrySet())
+                .extracting(entry -> entry.getKey().getName(), entry -> entry.getKey().getStations(),
+                        entry -> entry.getValue().getValue())
+                .containsExactly(
+                        tuple("신분당선", List.of(강남, 양재, 판교), 1000),
+                        tuple("2호선", List.of(강남, 판교), 0)
+                );
+    }
+
     @Test
     @DisplayName("ID 값으로 노선을 조회한다")
     public void findById() {
@@ -0,0 +1,48 @@
+package wooteco.subway.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderingKeysTest {
+    private static final long GAP = OrderingKeys.GAP;
+
+    @Test
+    @DisplayName("새 노선의 구간은 간격을 두고 순서 값을 받는다.")
+    void assign_newSections() {
+        assertThat(OrderingKeys.assign(new Long[]{null, null, null})).containsExactly(0, GAP, 2 * GAP);
+    }
+
+    @Test
+    @DisplayName("맨 앞에 추가된 구간만 기존 구간보다 작은 순서 값을 받는다.")
+    void assign_first() {
+        long[] keys = OrderingKeys.assign(new Long[]{null, 0L, GAP});
+
+        assertThat(keys).containsExactly(-GAP, 0, GAP);
+    }
+
+    @Test
+    @DisplayName("중간에 추가된 구간은 양 옆 구간 사이의 순서 값을 받는다.")
+    void assign_between() {
+        long[] keys = OrderingKeys.assign(new Long[]{0L, null, GAP});
+
+        assertThat(keys).containsExactly(0, GAP / 2, GAP);
+    }
+
+    @Test
+    @DisplayName("사이에 남은 순서 값이 없으면 노선 전체의 순서 값을 다시 매긴다.")
+    void assign_rebalance() {
+        long[] keys = OrderingKeys.assign(new Long[]{0L, null, 1L});
+
+        assertThat(keys).containsExactly(0, GAP, 2 * GAP);
+    }
+
+    @Test
+    @DisplayName("순서가 어긋난 구간만 새 순서 값을 받는다.")
+    void assign_outOfOrder() {
+        long[] keys = OrderingKeys.assign(new Long[]{0L, 3 * GAP, GAP, 2 * GAP});
+
+        assertThat(keys).containsExactly(0, GAP / 2, GAP, 2 * GAP);
+    }
+}
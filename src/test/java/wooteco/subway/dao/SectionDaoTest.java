@@ -6,6 +6,9 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static wooteco.subway.dao.Fixture.TERMINATION_DOWN;
 import static wooteco.subway.dao.Fixture.TERMINATION_UP;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.annotation.DirtiesContext.ClassMode;
 
@@ -24,7 +28,7 @@ import wooteco.subway.domain.section.Section;
 
 @DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD)
 @JdbcTest
-@Import({JdbcSectionDao.class, JdbcStationDao.class, JdbcLineDao.class})
+@Import({JdbcSectionDao.class, JdbcStationDao.class, JdbcLineDao.class, StationRegistry.class})
 public class SectionDaoTest {
     @Autowired
     private SectionDao sectionDao;
@@ -32,6 +36,8 @@ public class SectionDaoTest {
     private StationDao stationDao;
     @Autowired
     private LineDao lineDao;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
     private final Station station = new Station(3L, "추가역");
     private Line line;
 
@@ -53,6 +59,51 @@ public class SectionDaoTest {
         sectionDao.save(line.getSections(), line.getId());
     }
 
+    @DisplayName("새로 추가한 구간은 생성된 id와 함께 반환한다")
+    @Test
+    void save_returnsGeneratedIds() {
+        line.addSection(new Section(TERMINATION_DOWN, station, Distance.fromMeter(5)));
+
+        List<Section> saved = sectionDao.save(line.getSections(), line.getId());
+
+        assertThat(saved).extracting(Section::getId).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    @DisplayName("불러온 구간과 비교해 바뀐 구간만 저장한다")
+    @Test
+    void save_onlyChangedSections() {
+        List<Section> loaded = sectionDao.save(line.getSections(), line.getId());
+        jdbcTemplate.update("UPDATE section SET distance = 1 WHERE id = ?", loaded.get(0).getId());
+        Line loadedLine = new Line(line.getId(), line.getName(), line.getColor(), loaded);
+        loadedLine.addSection(new Section(TERMINATION_DOWN, station, Distance.fromMeter(5)));
+
+        List<Section> saved = sectionDao.save(loaded, loadedLine.getSections(), line.getId());
+
+        Double distance = jdbcTemplate.queryForObject("SELECT distance FROM section WHERE id = ?", Double.class,
+                loaded.get(0).getId());
+        assertThat(distance).isEqualTo(1);
+        assertThat(lineDao.findById(line.getId()).getStations())
+                .containsExactly(TERMINATION_UP, TERMINATION_DOWN, station);
+        assertThat(saved).hasSize(2);
+    }
+
+    @DisplayName("상행 종점에 구간을 추가해도 기존 구간의 순서는 다시 저장하지 않는다")
+    @Test
+    void save_addFirstWithoutRenumbering() {
+        List<Section> loaded = sectionDao.save(line.getSections(), line.getId());
+        jdbcTemplate.update("UPDATE section SET distance = 1 WHERE id = ?", loaded.get(0).getId());
+        Line loadedLine = new Line(line.getId(), line.getName(), line.getColor(), loaded);
+        loadedLine.addSection(new Section(station, TERMINATION_UP, Distance.fromMeter(5)));
+
+        sectionDao.save(loaded, loadedLine.getSections(), line.getId());
+
+        Double distance = jdbcTemplate.queryForObject("SELECT distance FROM section WHERE id = ?", Double.class,
+                loaded.get(0).getId());
+        assertThat(distance).isEqualTo(1);
+        assertThat(lineDao.findById(line.getId()).getStations())
+                .containsExactly(station, TERMINATION_UP, TERMINATION_DOWN);
+    }
+
     @DisplayName("특정 구간을 삭제할 수 있다")
     @Test
     void delete() {
@@ -94,6 +145,19 @@ public class SectionDaoTest {
         assertThat(sectionDao.findAll()).hasSize(2);
     }
 
+    @DisplayName("저장한 모든 구간을 노선의 추가 요금과 함께 불러온다")
+    @Test
+    void findAllWithExtraFare() {
+        Section section = new Section(TERMINATION_DOWN, station, Distance.fromMeter(10));
+        line.addSection(section);
+        sectionDao.save(line.getSections(), line.getId());
+
+        Map<Section, Fare> edges = sectionDao.findAllWithExtraFare();
+
+        assertThat(edges).hasSize(2);
+        assertThat(edges.values()).containsOnly(Fixture.FARE_1000);
+    }
+
     @DisplayName("특정 구간의 추가 요금을 조회한다")
     @Test
     void findExtraFareById() {
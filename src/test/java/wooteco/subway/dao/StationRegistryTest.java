@@ -0,0 +1,119 @@
+package wooteco.subway.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+
+import wooteco.subway.domain.Station;
+
+@JdbcTest
+@Import({JdbcStationDao.class, StationRegistry.class})
+class StationRegistryTest {
+    @Autowired
+    private StationDao stationDao;
+    @Autowired
+    private StationRegistry stationRegistry;
+
+    @Test
+    @DisplayName("불러온 역은 저장소를 거치지 않고 같은 객체로 조회한다.")
+    void findById_hit() {
+        Station saved = stationDao.save(new Station("청구역"));
+        stationRegistry.load();
+
+        Station first = stationRegistry.findById(saved.getId());
+        Station second = stationRegistry.findById(saved.getId());
+
+        assertAll(
+                () -> assertThat(first).isSameAs(second),
+                () -> assertThat(stationRegistry.getHitCount()).isEqualTo(2),
+                () -> assertThat(stationRegistry.getMissCount()).isZero(),
+                () -> assertThat(stationRegistry.getHitRate()).isEqualTo(1.0)
+        );
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 역은 저장소에서 조회해 등록한다.")
+    void findById_miss() {
+        stationRegistry.load();
+        Station saved = stationDao.save(new Station("신당역"));
+
+        Station first = stationRegistry.findById(saved.getId());
+        Station second = stationRegistry.findById(saved.getId());
+
+        assertAll(
+                () -> assertThat(first).isSameAs(second),
+                () -> assertThat(stationRegistry.getMissCount()).isEqualTo(1),
+                () -> assertThat(stationRegistry.getHitCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 역을 조회하면 예외를 던진다.")
+    void findById_notExists() {
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> stationRegistry.findById(100L))
+                .withMessage("조회하고자 하는 역이 존재하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("같은 id와 이름의 역은 하나의 객체로 공유한다.")
+    void intern() {
+        Station saved = stationRegistry.register(stationDao.save(new Station("동대문역")));
+
+        assertThat(stationRegistry.intern(saved.getId(), "동대문역")).isSameAs(saved);
+    }
+
+    @Test
+    @DisplayName("제거한 역은 다시 저장소에서 조회한다.")
+    void remove() {
+        Station saved = stationRegistry.register(stationDao.save(new Station("약수역")));
+        stationRegistry.remove(saved.getId());
+        stationDao.deleteById(saved.getId());
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> stationRegistry.findById(saved.getId()));
+    }
+
+    @Test
+    @DisplayName("많은 역을 차례로 등록해도 모두 같은 객체로 조회한다.")
+    void register_many() {
+        stationRegistry.load();
+        List<Station> registered = new ArrayList<>();
+        for (long id = 1; id <= 1_000; id++) {
+            registered.add(stationRegistry.register(new Station(id, "역" + id)));
+        }
+        Station renamed = stationRegistry.register(new Station(1_000L, "새역"));
+
+        assertAll(
+                () -> assertThat(stationRegistry.size()).isEqualTo(1_000),
+                () -> assertThat(stationRegistry.intern(1L, "역1")).isSameAs(registered.get(0)),
+                () -> assertThat(stationRegistry.intern(999L, "역999")).isSameAs(registered.get(998)),
+                () -> assertThat(stationRegistry.intern(1_000L, "새역")).isSameAs(renamed)
+        );
+    }
+
+    @Test
+    @DisplayName("여러 역을 한 번에 등록하면 저장소를 거치지 않고 같은 객체로 조회한다.")
+    void registerAll() {
+        stationRegistry.load();
+        List<Station> saved = stationDao.saveAll(List.of(new Station("금호역"), new Station("옥수역")));
+
+        stationRegistry.registerAll(saved);
+
+        assertAll(
+                () -> assertThat(stationRegistry.findById(saved.get(0).getId())).isSameAs(saved.get(0)),
+                () -> assertThat(stationRegistry.findById(saved.get(1).getId())).isSameAs(saved.get(1)),
+                () -> assertThat(stationRegistry.getMissCount()).isZero()
+        );
+    }
+}
@@ -1,7 +1,9 @@
 package wooteco.subway.domain.path;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -12,63 +14,87 @@ class AgeFareTest {
     @DisplayName("6세 미만이면 요금이 무료이다")
     @Test
     void calculate_free_5() {
-        Fare fare = new Fare(1250);
-        Fare discountedFare = AgeFare.calculate(fare, new Age(5));
+        int discountedFare = AgeFare.calculate(1250, 5);
 
-        assertThat(discountedFare.getValue()).isEqualTo(0);
+        assertThat(discountedFare).isEqualTo(0);
     }
 
     @DisplayName("65세 이상이면 요금이 무료이다")
     @Test
     void calculate_free_65() {
-        Fare fare = new Fare(1250);
-        Fare discountedFare = AgeFare.calculate(fare, new Age(65));
+        int discountedFare = AgeFare.calculate(1250, 65);
 
-        assertThat(discountedFare.getValue()).isEqualTo(0);
+        assertThat(discountedFare).isEqualTo(0);
     }
 
     @ParameterizedTest(name = "19세 이상 65세 미만이면 할인이 적용되지 않는다 : {0}")
     @ValueSource(ints = {19, 64})
     void calculate_other_1250(int age) {
-        Fare fare = new Fare(1250);
-        Fare discountedFare = AgeFare.calculate(fare, new Age(age));
+        int discountedFare = AgeFare.calculate(1250, age);
 
-        assertThat(discountedFare.getValue()).isEqualTo(1250);
+        assertThat(discountedFare).isEqualTo(1250);
     }
 
     @DisplayName("1250원에 청소년 운임 할인을 적용하면 720원이다.")
     @Test
     void calculate_teenager_1250() {
-        Fare fare = new Fare(1250);
-        Fare discountedFare = AgeFare.calculate(fare, new Age(13));
+        int discountedFare = AgeFare.calculate(1250, 13);
 
-        assertThat(discountedFare.getValue()).isEqualTo(720);
+        assertThat(discountedFare).isEqualTo(720);
     }
 
     @DisplayName("1250원에 어린이 운임 할인을 적용하면 450원이다.")
     @Test
     void calculate_kid() {
-        Fare fare = new Fare(1250);
-        Fare discountedFare = AgeFare.calculate(fare, new Age(6));
+        int discountedFare = AgeFare.calculate(1250, 6);
 
-        assertThat(discountedFare.getValue()).isEqualTo(450);
+        assertThat(discountedFare).isEqualTo(450);
     }
 
     @DisplayName("2150원에 청소년 운임 할인을 적용하면 1440원이다.")
     @Test
     void calculate_teenager_2150() {
-        Fare fare = new Fare(2150);
-        Fare discountedFare = AgeFare.calculate(fare, new Age(18));
+        int discountedFare = AgeFare.calculate(2150, 18);
 
-        assertThat(discountedFare.getValue()).isEqualTo(1440);
+        assertThat(discountedFare).isEqualTo(1440);
     }
 
     @DisplayName("2150원에 어린이 운임 할인을 적용하면 900원이다.")
     @Test
     void calculate_kid_2150() {
-        Fare fare = new Fare(2150);
-        Fare discountedFare = AgeFare.calculate(fare, new Age(12));
+        int discountedFare = AgeFare.calculate(2150, 12);
 
-        assertThat(discountedFare.getValue()).isEqualTo(900);
+        assertThat(discountedFare).isEqualTo(900);
     }
-}
\ No newline at end of file
+
+    @DisplayName("모든 나이와 요금에 대해 기존 계산과 같은 요금을 계산한다")
+    @Test
+    void calculate_sameAsFarePolicy() {
+        for (int age = 0; age <= 150; age++) {
+            for (int value = 0; value <= 20_000; value += 10) {
+                int fare = value;
+                int passengerAge = age;
+
+                assertThat(resultOf(() -> Fare.valueOf(AgeFare.calculate(fare, passengerAge))))
+                        .as("%d세, %d원", age, value)
+                        .isEqualTo(resultOf(() -> AgeFarePolicy.calculate(new Fare(fare), new Age(passengerAge))));
+            }
+        }
+    }
+
+    private String resultOf(Supplier<Fare> calculation) {
+        try {
+            return String.valueOf(calculation.get().getValue());
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @DisplayName("공제 금액보다 요금이 적으면 예외가 발생한다")
+    @Test
+    void calculate_lessThanDeduction() {
+        assertThatThrownBy(() -> AgeFare.calculate(340, 13))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("요금은 음수일 수 없습니다.");
+    }
+}
@@ -0,0 +1,89 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static wooteco.subway.domain.path.Fixture.강남;
+import static wooteco.subway.domain.path.Fixture.강남_역삼_선릉;
+import static wooteco.subway.domain.path.Fixture.선릉;
+import static wooteco.subway.domain.path.Fixture.역삼;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.support.AllPairsShortestPath;
+import wooteco.subway.support.CompactShortestPath;
+
+class AllPairsShortestPathTest {
+    private final PathAlgorithm pathAlgorithm = new AllPairsShortestPath(강남_역삼_선릉);
+
+    @Test
+    @DisplayName("미리 계산한 표에서 최단 경로와 경로상 최대 추가 요금을 구한다.")
+    void getPath() {
+        Path path = pathAlgorithm.getPath(선릉, 강남);
+
+        assertAll(
+                () -> assertThat(path.getStations()).containsExactly(선릉, 역삼, 강남),
+                () -> assertThat(path.getDistance()).isEqualTo(0.02),
+                () -> assertThat(path.calculateFare(new Age(20))).isEqualTo(new Fare(1450))
+        );
+    }
+
+    @Test
+    @DisplayName("구간에 존재하지 않는 역일 경우 예외가 발생한다.")
+    void getPath_no_such_station() {
+        Station 망원 = new Station(4L, "망원");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> pathAlgorithm.getPath(선릉, 망원))
+                .withMessageContaining("존재하지 않습니다");
+    }
+
+    @Test
+    @DisplayName("이어진 구간이 존재하지 않을 경우 예외가 발생한다.")
+    void getPath_no_such_path() {
+        Station 망원 = new Station(4L, "망원");
+        Map<Section, Fare> edges = Map.of(
+                new Section(강남, 역삼, Distance.fromMeter(5)), new Fare(0),
+                new Section(선릉, 망원, Distance.fromMeter(5)), new Fare(0)
+        );
+        PathAlgorithm pathAlgorithm = new AllPairsShortestPath(edges);
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> pathAlgorithm.getPath(역삼, 선릉))
+                .withMessageContaining("경로가 존재하지");
+    }
+
+    @Test
+    @DisplayName("임의의 노선도의 모든 출발역과 도착역에 대해 탐색한 결과와 같은 거리를 구한다.")
+    void getPath_sameDistanceWithSearch() {
+        Random random = new Random(11);
+        Station[] stations = new Station[120];
+        for (int i = 0; i < stations.length; i++) {
+            stations[i] = new Station(i + 1L, "역" + (i + 1));
+        }
+        Map<Section, Fare> edges = new HashMap<>();
+        for (int i = 1; i < stations.length; i++) {
+            Station up = stations[random.nextInt(i)];
+            edges.put(new Section(up, stations[i], Distance.fromKilometer(1 + random.nextInt(9))),
+                    new Fare(random.nextInt(5) * 100));
+        }
+        PathAlgorithm expected = new CompactShortestPath(edges);
+        PathAlgorithm actual = new AllPairsShortestPath(edges);
+
+        for (Station source : stations) {
+            for (Station target : stations) {
+                if (source.equals(target)) {
+                    continue;
+                }
+                Path expectedPath = expected.getPath(source, target);
+                Path actualPath = actual.getPath(source, target);
+                assertThat(actualPath.getDistance()).isEqualTo(expectedPath.getDistance());
+                assertThat(actualPath.getStations()).isEqualTo(expectedPath.getStations());
+            }
+        }
+    }
+}
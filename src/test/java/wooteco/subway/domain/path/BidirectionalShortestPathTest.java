@@ -0,0 +1,95 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static wooteco.subway.domain.path.Fixture.강남;
+import static wooteco.subway.domain.path.Fixture.강남_역삼_선릉;
+import static wooteco.subway.domain.path.Fixture.선릉;
+import static wooteco.subway.domain.path.Fixture.역삼;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.support.BidirectionalShortestPath;
+import wooteco.subway.support.CompactShortestPath;
+
+class BidirectionalShortestPathTest {
+    private final PathAlgorithm pathAlgorithm = new BidirectionalShortestPath(강남_역삼_선릉);
+
+    @Test
+    @DisplayName("양방향 탐색으로 최단 경로와 경로상 최대 추가 요금을 구한다.")
+    void getPath() {
+        Path path = pathAlgorithm.getPath(선릉, 강남);
+
+        assertAll(
+                () -> assertThat(path.getStations()).containsExactly(선릉, 역삼, 강남),
+                () -> assertThat(path.getDistance()).isEqualTo(0.02),
+                () -> assertThat(path.calculateFare(new Age(20))).isEqualTo(new Fare(1450))
+        );
+    }
+
+    @Test
+    @DisplayName("이웃한 역 사이의 경로를 구한다.")
+    void getPath_adjacent() {
+        Path path = pathAlgorithm.getPath(강남, 역삼);
+
+        assertAll(
+                () -> assertThat(path.getStations()).containsExactly(강남, 역삼),
+                () -> assertThat(path.calculateFare(new Age(20))).isEqualTo(new Fare(1350))
+        );
+    }
+
+    @Test
+    @DisplayName("이어진 구간이 존재하지 않을 경우 예외가 발생한다.")
+    void getPath_no_such_path() {
+        Station 망원 = new Station(4L, "망원");
+        Map<Section, Fare> edges = Map.of(
+                new Section(강남, 역삼, Distance.fromMeter(5)), new Fare(0),
+                new Section(선릉, 망원, Distance.fromMeter(5)), new Fare(0)
+        );
+        PathAlgorithm pathAlgorithm = new BidirectionalShortestPath(edges);
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> pathAlgorithm.getPath(역삼, 선릉))
+                .withMessageContaining("경로가 존재하지");
+    }
+
+    @Test
+    @DisplayName("임의의 노선도에서 단방향 탐색과 같은 최단 거리를 구한다.")
+    void getPath_sameDistanceWithCompactShortestPath() {
+        Random random = new Random(3);
+        Station[] stations = new Station[101];
+        for (int id = 1; id <= 100; id++) {
+            stations[id] = new Station((long) id, "역" + id);
+        }
+        Map<Section, Fare> edges = new LinkedHashMap<>();
+        for (int id = 1; id < 100; id++) {
+            edges.put(new Section(stations[id], stations[id + 1], Distance.fromKilometer(1 + random.nextInt(9))),
+                    new Fare(0));
+        }
+        for (int i = 0; i < 150; i++) {
+            Station up = stations[1 + random.nextInt(100)];
+            Station down = stations[1 + random.nextInt(100)];
+            if (!up.equals(down)) {
+                edges.put(new Section(up, down, Distance.fromKilometer(1 + random.nextInt(9))), new Fare(0));
+            }
+        }
+        PathAlgorithm expected = new CompactShortestPath(edges);
+        PathAlgorithm actual = new BidirectionalShortestPath(edges);
+
+        for (int source = 1; source <= 100; source += 3) {
+            for (int target = 2; target <= 100; target += 7) {
+                if (source == target) {
+                    continue;
+                }
+                assertThat(actual.getPath(stations[source], stations[target]).getDistance())
+                        .isEqualTo(expected.getPath(stations[source], stations[target]).getDistance());
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static wooteco.subway.domain.path.Fixture.강남;
+import static wooteco.subway.domain.path.Fixture.강남_역삼_선릉;
+import static wooteco.subway.domain.path.Fixture.선릉;
+import static wooteco.subway.domain.path.Fixture.역삼;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.support.ChainCompressedShortestPath;
+import wooteco.subway.support.CompactShortestPath;
+
+class ChainCompressedShortestPathTest {
+    private static final Station 교대 = new Station(4L, "교대");
+    private static final Station 서초 = new Station(5L, "서초");
+    private static final Station 양재 = new Station(6L, "양재");
+
+    private final Map<Section, Fare> 교대_서초_강남_역삼_선릉_양재 = Map.of(
+            new Section(교대, 서초, Distance.fromMeter(10)), new Fare(0),
+            new Section(서초, 강남, Distance.fromMeter(10)), new Fare(0),
+            new Section(강남, 역삼, Distance.fromMeter(10)), new Fare(100),
+            new Section(역삼, 선릉, Distance.fromMeter(10)), new Fare(200),
+            new Section(강남, 양재, Distance.fromMeter(10)), new Fare(500)
+    );
+
+    @Test
+    @DisplayName("환승역과 종점만 남기고 중간역은 구간 묶음으로 압축한다.")
+    void getCoreVertexCount() {
+        ChainCompressedShortestPath pathAlgorithm = new ChainCompressedShortestPath(교대_서초_강남_역삼_선릉_양재);
+
+        assertThat(pathAlgorithm.getCoreVertexCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("압축된 구간의 중간역끼리의 최단 경로를 중간역을 모두 포함해 구한다.")
+    void getPath_between_chains() {
+        PathAlgorithm pathAlgorithm = new ChainCompressedShortestPath(교대_서초_강남_역삼_선릉_양재);
+
+        Path path = pathAlgorithm.getPath(서초, 역삼);
+
+        assertAll(
+                () -> assertThat(path.getStations()).containsExactly(서초, 강남, 역삼),
+                () -> assertThat(path.getDistance()).isEqualTo(0.02),
+                () -> assertThat(path.calculateFare(new Age(20))).isEqualTo(new Fare(1350))
+        );
+    }
+
+    @Test
+    @DisplayName("종점에서 환승역을 지나 다른 구간 묶음의 끝까지 경로를 구한다.")
+    void getPath_from_terminal() {
+        PathAlgorithm pathAlgorithm = new ChainCompressedShortestPath(교대_서초_강남_역삼_선릉_양재);
+
+        Path path = pathAlgorithm.getPath(교대, 선릉);
+
+        assertAll(
+                () -> assertThat(path.getStations()).containsExactly(교대, 서초, 강남, 역삼, 선릉),
+                () -> assertThat(path.calculateFare(new Age(20))).isEqualTo(new Fare(1450))
+        );
+    }
+
+    @Test
+    @DisplayName("환승역이 없는 순환 노선에서도 최단 경로를 구한다.")
+    void getPath_cycle() {
+        PathAlgorithm pathAlgorithm = new ChainCompressedShortestPath(강남_역삼_선릉);
+
+        Path path = pathAlgorithm.getPath(선릉, 강남);
+
+        assertAll(
+                () -> assertThat(path.getStations()).containsExactly(선릉, 역삼, 강남),
+                () -> assertThat(path.getDistance()).isEqualTo(0.02),
+                () -> assertThat(path.calculateFare(new Age(20))).isEqualTo(new Fare(1450))
+        );
+    }
+
+    @Test
+    @DisplayName("임의의 노선도에서 압축하지 않은 다익스트라와 같은 최단 거리를 구한다.")
+    void getPath_sameDistanceWithCompactShortestPath() {
+        Random random = new Random(9);
+        Station[] stations = new Station[151];
+        for (int id = 1; id <= 150; id++) {
+            stations[id] = new Station((long) id, "역" + id);
+        }
+        Map<Section, Fare> edges = new LinkedHashMap<>();
+        for (int id = 1; id < 150; id++) {
+            edges.put(new Section(stations[id], stations[id + 1], Distance.fromKilometer(1 + random.nextInt(9))),
+                    new Fare(0));
+        }
+        for (int i = 0; i < 10; i++) {
+            Station up = stations[1 + random.nextInt(150)];
+            Station down = stations[1 + random.nextInt(150)];
+            if (!up.equals(down)) {
+                edges.put(new Section(up, down, Distance.fromKilometer(1 + random.nextInt(9))), new Fare(0));
+            }
+        }
+        PathAlgorithm expected = new CompactShortestPath(edges);
+        PathAlgorithm actual = new ChainCompressedShortestPath(edges);
+
+        for (int source = 1; source <= 150; source += 7) {
+            for (int target = 2; target <= 150; target += 5) {
+                if (source == target) {
+                    continue;
+                }
+                assertThat(actual.getPath(stations[source], stations[target]).getDistance())
+                        .isEqualTo(expected.getPath(stations[source], stations[target]).getDistance());
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static wooteco.subway.domain.path.Fixture.강남;
+import static wooteco.subway.domain.path.Fixture.선릉;
+import static wooteco.subway.domain.path.Fixture.역삼;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.support.CompactGraph;
+import wooteco.subway.support.CompactShortestPath;
+
+class CompactGraphTest {
+    private static final Station 삼성 = new Station(4L, "삼성");
+
+    private final Section 강남_역삼 = new Section(1L, 강남, 역삼, Distance.fromMeter(10));
+    private final Section 역삼_선릉 = new Section(2L, 역삼, 선릉, Distance.fromMeter(10));
+    private final Map<Section, Fare> 강남_역삼_선릉 = Map.of(
+            강남_역삼, new Fare(100),
+            역삼_선릉, new Fare(200)
+    );
+
+    @Test
+    @DisplayName("추가된 구간의 새로운 역을 경로에 포함한다.")
+    void apply_added() {
+        CompactGraph graph = CompactGraph.from(강남_역삼_선릉)
+                .apply(NetworkDelta.added(new Section(3L, 선릉, 삼성, Distance.fromMeter(10)), new Fare(500)));
+
+        Path path = new CompactShortestPath(graph).getPath(강남, 삼성);
+
+        assertAll(
+                () -> assertThat(path.getStations()).containsExactly(강남, 역삼, 선릉, 삼성),
+                () -> assertThat(path.calculateFare(new Age(20))).isEqualTo(new Fare(1750)),
+                () -> assertThat(graph.getEdgeCount()).isEqualTo(6)
+        );
+    }
+
+    @Test
+    @DisplayName("구간이 모두 제거된 역은 경로에 존재하지 않는다.")
+    void apply_removed() {
+        CompactGraph graph = CompactGraph.from(강남_역삼_선릉).apply(NetworkDelta.removed(List.of(역삼_선릉)));
+
+        assertThatThrownBy(() -> new CompactShortestPath(graph).getPath(강남, 선릉))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("해당 역은 경로에 존재하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("가중치가 바뀐 구간의 거리와 추가 요금을 반영한다.")
+    void apply_reweighted() {
+        CompactGraph graph = CompactGraph.from(강남_역삼_선릉).apply(NetworkDelta.reweighted(
+                List.of(new Section(1L, 강남, 역삼, Distance.fromMeter(30))), new Fare(900)));
+
+        Path path = new CompactShortestPath(graph).getPath(강남, 선릉);
+
+        assertAll(
+                () -> assertThat(path.getDistance()).isEqualTo(0.04),
+                () -> assertThat(path.calculateFare(new Age(20))).isEqualTo(new Fare(2150))
+        );
+    }
+
+    @Test
+    @DisplayName("변경을 적용해도 기존 그래프는 바뀌지 않는다.")
+    void apply_copyOnWrite() {
+        CompactGraph graph = CompactGraph.from(강남_역삼_선릉);
+        CompactGraph removed = graph.apply(NetworkDelta.removed(List.of(강남_역삼)));
+        CompactGraph added = graph.apply(NetworkDelta.added(new Section(3L, 강남, 선릉, Distance.fromMeter(5)), new Fare(0)));
+
+        assertAll(
+                () -> assertThat(new CompactShortestPath(graph).getPath(강남, 선릉).getDistance()).isEqualTo(0.02),
+                () -> assertThat(removed.indexOf(강남)).isEqualTo(-1),
+                () -> assertThat(new CompactShortestPath(added).getPath(강남, 선릉).getDistance()).isEqualTo(0.005)
+        );
+    }
+
+    @Test
+    @DisplayName("임의의 변경을 연속으로 적용한 그래프는 처음부터 만든 그래프와 같은 최단 거리를 구한다.")
+    void apply_sameDistanceWithRebuiltGraph() {
+        Random random = new Random(14);
+        Station[] stations = new Station[81];
+        for (int id = 1; id <= 80; id++) {
+            stations[id] = new Station((long) id, "역" + id);
+        }
+        Map<Long, Section> sections = new LinkedHashMap<>();
+        long nextId = 1;
+        for (int id = 1; id < 60; id++) {
+            sections.put(nextId, new Section(nextId++, stations[id], stations[id + 1], randomDistance(random)));
+        }
+        CompactGraph graph = CompactGraph.from(toEdges(sections));
+
+        for (int round = 0; round < 200; round++) {
+            List<Section> removed = new ArrayList<>();
+            Map<Section, Fare> added = new LinkedHashMap<>();
+            List<Long> ids = new ArrayList<>(sections.keySet());
+            if (!ids.isEmpty() && random.nextBoolean()) {
+                removed.add(sections.remove(ids.get(random.nextInt(ids.size()))));
+            }
+            Station up = stations[1 + random.nextInt(80)];
+            Station down = stations[1 + random.nextInt(80)];
+            if (!up.equals(down)) {
+                Section section = new Section(nextId++, up, down, randomDistance(random));
+                sections.put(section.getId(), section);
+                added.put(section, new Fare(0));
+            }
+            graph = graph.apply(new NetworkDelta(removed, added, Map.of()));
+
+            assertSameDistances(graph, CompactGraph.from(toEdges(sections)), stations);
+        }
+    }
+
+    private Distance randomDistance(Random random) {
+        return Distance.fromKilometer(1 + random.nextInt(9));
+    }
+
+    private Map<Section, Fare> toEdges(Map<Long, Section> sections) {
+        Map<Section, Fare> edges = new LinkedHashMap<>();
+        sections.values().forEach(section -> edges.put(section, new Fare(0)));
+        return edges;
+    }
+
+    private void assertSameDistances(CompactGraph actual, CompactGraph expected, Station[] stations) {
+        assertThat(actual.getEdgeCount()).isEqualTo(expected.getEdgeCount());
+        PathAlgorithm actualPath = new CompactShortestPath(actual);
+        PathAlgorithm expectedPath = new CompactShortestPath(expected);
+        for (int source = 1; source <= 80; source += 9) {
+            for (int target = 2; target <= 80; target += 11) {
+                if (source == target || expected.indexOf(stations[source]) < 0
+                        || expected.indexOf(stations[target]) < 0) {
+                    continue;
+                }
+                assertThat(distanceOrNull(actualPath, stations[source], stations[target]))
+                        .isEqualTo(distanceOrNull(expectedPath, stations[source], stations[target]));
+            }
+        }
+    }
+
+    private Double distanceOrNull(PathAlgorithm pathAlgorithm, Station source, Station target) {
+        try {
+            return pathAlgorithm.getPath(source, target).getDistance();
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static wooteco.subway.domain.path.Fixture.강남;
+import static wooteco.subway.domain.path.Fixture.강남_역삼_선릉;
+import static wooteco.subway.domain.path.Fixture.선릉;
+import static wooteco.subway.domain.path.Fixture.역삼;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.support.CompactShortestPath;
+import wooteco.subway.support.ShortestPath;
+
+class CompactShortestPathTest {
+    private final PathAlgorithm pathAlgorithm = new CompactShortestPath(강남_역삼_선릉);
+
+    @Test
+    @DisplayName("주어진 구간으로 최단 경로와 경로상 최대 추가 요금을 구한다.")
+    void getPath() {
+        Path path = pathAlgorithm.getPath(선릉, 강남);
+
+        assertAll(
+                () -> assertThat(path.getStations()).containsExactly(선릉, 역삼, 강남),
+                () -> assertThat(path.getDistance()).isEqualTo(0.02),
+                () -> assertThat(path.calculateFare(new Age(20))).isEqualTo(new Fare(1450))
+        );
+    }
+
+    @Test
+    @DisplayName("출발역과 도착역 중 하나라도 입력되지 않으면 예외가 발생한다.")
+    void getPath_null() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> pathAlgorithm.getPath(null, 선릉))
+                .withMessageContaining("모두 필수");
+    }
+
+    @Test
+    @DisplayName("출발역과 도착역이 같으면 예외가 발생한다.")
+    void getPath_same_source_target() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> pathAlgorithm.getPath(선릉, 선릉))
+                .withMessageContaining("출발역과 도착역이 같아");
+    }
+
+    @Test
+    @DisplayName("구간에 존재하지 않는 역일 경우 예외가 발생한다.")
+    void getPath_no_such_station() {
+        Station 망원 = new Station(4L, "망원");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> pathAlgorithm.getPath(선릉, 망원))
+                .withMessageContaining("존재하지 않습니다");
+    }
+
+    @Test
+    @DisplayName("이어진 구간이 존재하지 않을 경우 예외가 발생한다.")
+    void getPath_no_such_path() {
+        Station 망원 = new Station(4L, "망원");
+        Map<Section, Fare> edges = Map.of(
+                new Section(강남, 역삼, Distance.fromMeter(5)), new Fare(0),
+                new Section(선릉, 망원, Distance.fromMeter(5)), new Fare(0)
+        );
+        PathAlgorithm pathAlgorithm = new CompactShortestPath(edges);
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> pathAlgorithm.getPath(역삼, 선릉))
+                .withMessageContaining("경로가 존재하지");
+    }
+
+    @Test
+    @DisplayName("추가 요금 때문에 더 비싼 최단 경로 대신 요금이 가장 적은 경로를 구한다.")
+    void getCheapestPath() {
+        Map<Section, Fare> edges = Map.of(
+                new Section(강남, 역삼, Distance.fromKilometer(10)), new Fare(900),
+                new Section(강남, 선릉, Distance.fromKilometer(6)), new Fare(0),
+                new Section(선릉, 역삼, Distance.fromKilometer(6)), new Fare(0)
+        );
+        PathAlgorithm pathAlgorithm = new CompactShortestPath(edges);
+
+        Path shortestPath = pathAlgorithm.getPath(강남, 역삼);
+        Path cheapestPath = pathAlgorithm.getCheapestPath(강남, 역삼);
+
+        assertAll(
+                () -> assertThat(shortestPath.calculateFare(new Age(20))).isEqualTo(new Fare(2150)),
+                () -> assertThat(cheapestPath.getStations()).containsExactly(강남, 선릉, 역삼),
+                () -> assertThat(cheapestPath.calculateFare(new Age(20))).isEqualTo(new Fare(1350))
+        );
+    }
+
+    @Test
+    @DisplayName("거리 한도 안에 도달할 수 있는 역을 가까운 순서로 구한다.")
+    void forEachDestination() {
+        List<Destination> destinations = new ArrayList<>();
+
+        pathAlgorithm.forEachDestination(강남, PathBudget.ofDistance(Distance.fromMeter(15)), destinations::add);
+
+        assertAll(
+                () -> assertThat(destinations).extracting(Destination::getStation).containsExactly(역삼),
+                () -> assertThat(destinations.get(0).calculateFare(new Age(20))).isEqualTo(new Fare(1350))
+        );
+    }
+
+    @Test
+    @DisplayName("임의의 노선도에서 JGraphT 구현과 같은 최단 거리를 구한다.")
+    void getPath_sameDistanceWithShortestPath() {
+        Map<Section, Fare> edges = randomNetwork(200, 600, new Random(7));
+        PathAlgorithm expected = new ShortestPath(edges);
+        PathAlgorithm actual = new CompactShortestPath(edges);
+
+        for (long source = 1; source <= 200; source += 13) {
+            for (long target = 2; target <= 200; target += 17) {
+                if (source == target) {
+                    continue;
+                }
+                Station sourceStation = new Station(source, "역" + source);
+                Station targetStation = new Station(target, "역" + target);
+                assertThat(actual.getPath(sourceStation, targetStation).getDistance())
+                        .isEqualTo(expected.getPath(sourceStation, targetStation).getDistance());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("우회 비율 안에서 짧은 순서대로 대안 경로를 구한다.")
+    void getAlternativePaths() {
+        List<Path> paths = pathAlgorithm.getAlternativePaths(강남, 선릉, 3, 20);
+
+        assertAll(
+                () -> assertThat(paths).hasSize(2),
+                () -> assertThat(paths.get(0).getStations()).containsExactly(강남, 역삼, 선릉),
+                () -> assertThat(paths.get(1).getStations()).containsExactly(강남, 선릉),
+                () -> assertThat(paths.get(1).calculateFare(new Age(20))).isEqualTo(new Fare(1250))
+        );
+    }
+
+    @Test
+    @DisplayName("우회 비율을 넘는 대안 경로는 제외한다.")
+    void getAlternativePaths_maxDetour() {
+        List<Path> paths = pathAlgorithm.getAlternativePaths(강남, 선릉, 3, 1.5);
+
+        assertThat(paths).extracting(Path::getStations)
+                .containsExactly(List.of(강남, 역삼, 선릉));
+    }
+
+    @Test
+    @DisplayName("임의의 노선도에서 모든 단순 경로 중 가장 짧은 경로들을 구한다.")
+    void getAlternativePaths_sameDistanceWithAllSimplePaths() {
+        Map<Section, Fare> edges = randomNetwork(10, 18, new Random(11));
+        PathAlgorithm pathAlgorithm = new CompactShortestPath(edges);
+
+        for (long source = 1; source <= 10; source++) {
+            for (long target = source + 1; target <= 10; target++) {
+                List<Double> expected = allSimplePathDistances(edges, source, target);
+                double maxDistance = expected.get(0) * 1.5;
+                List<Double> alternatives = expected.stream()
+                        .filter(distance -> distance <= maxDistance)
+                        .limit(4)
+                        .collect(Collectors.toList());
+
+                List<Path> paths = pathAlgorithm.getAlternativePaths(
+                        new Station(source, "역" + source), new Station(target, "역" + target), 4, 1.5);
+                assertThat(paths).extracting(Path::getDistance).isEqualTo(alternatives);
+            }
+        }
+    }
+
+    private List<Double> allSimplePathDistances(Map<Section, Fare> edges, long source, long target) {
+        List<Double> distances = new ArrayList<>();
+        collectDistances(new ArrayList<>(edges.keySet()), source, target, new HashSet<>(Set.of(source)), 0,
+                distances);
+        distances.sort(Comparator.naturalOrder());
+        return distances;
+    }
+
+    private void collectDistances(List<Section> sections, long current, long target, Set<Long> visited,
+                                  double distance, List<Double> distances) {
+        if (current == target) {
+            distances.add(distance);
+            return;
+        }
+        for (Section section : sections) {
+            long next = nextStation(section, current);
+            if (next < 0 || !visited.add(next)) {
+                continue;
+            }
+            collectDistances(sections, next, target, visited, distance + section.getDistance(), distances);
+            visited.remove(next);
+        }
+    }
+
+    private long nextStation(Section section, long current) {
+        if (section.getUpStation().getId() == current) {
+            return section.getDownStation().getId();
+        }
+        if (section.getDownStation().getId() == current) {
+            return section.getUpStation().getId();
+        }
+        return -1;
+    }
+
+    private Map<Section, Fare> randomNetwork(int stationCount, int sectionCount, Random random) {
+        Station[] stations = new Station[stationCount + 1];
+        for (int id = 1; id <= stationCount; id++) {
+            stations[id] = new Station((long) id, "역" + id);
+        }
+        Map<Section, Fare> edges = new HashMap<>();
+        for (int id = 1; id < stationCount; id++) {
+            edges.put(randomSection(stations[id], stations[id + 1], random), randomFare(random));
+        }
+        for (int i = stationCount; i < sectionCount; i++) {
+            Station up = stations[1 + random.nextInt(stationCount)];
+            Station down = stations[1 + random.nextInt(stationCount)];
+            if (!up.equals(down)) {
+                edges.put(randomSection(up, down, random), randomFare(random));
+            }
+        }
+        return edges;
+    }
+
+    private Section randomSection(Station up, Station down, Random random) {
+        return new Section(up, down, Distance.fromKilometer(1 + random.nextInt(20)));
+    }
+
+    private Fare randomFare(Random random) {
+        return new Fare(List.of(0, 100, 500, 900).get(random.nextInt(4)));
+    }
+}
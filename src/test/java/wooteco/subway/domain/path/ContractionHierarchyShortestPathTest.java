@@ -0,0 +1,111 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static wooteco.subway.domain.path.Fixture.강남;
+import static wooteco.subway.domain.path.Fixture.강남_역삼_선릉;
+import static wooteco.subway.domain.path.Fixture.선릉;
+import static wooteco.subway.domain.path.Fixture.역삼;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.support.CompactGraph;
+import wooteco.subway.support.CompactShortestPath;
+import wooteco.subway.support.ContractionHierarchyShortestPath;
+
+class ContractionHierarchyShortestPathTest {
+    private final ContractionHierarchyShortestPath pathAlgorithm =
+            new ContractionHierarchyShortestPath(CompactGraph.from(강남_역삼_선릉), Runnable::run);
+
+    @Test
+    @DisplayName("축약 계층으로 최단 경로를 구하고 지름길을 원래 역 목록으로 펼친다.")
+    void getPath() {
+        Path path = pathAlgorithm.getPath(선릉, 강남);
+
+        assertAll(
+                () -> assertThat(pathAlgorithm.isPreprocessed()).isTrue(),
+                () -> assertThat(path.getStations()).containsExactly(선릉, 역삼, 강남),
+                () -> assertThat(path.getDistance()).isEqualTo(0.02),
+                () -> assertThat(path.calculateFare(new Age(20))).isEqualTo(new Fare(1450))
+        );
+    }
+
+    @Test
+    @DisplayName("전처리가 끝나기 전에는 다익스트라로 최단 경로를 구한다.")
+    void getPath_before_preprocessed() {
+        ContractionHierarchyShortestPath pathAlgorithm =
+                new ContractionHierarchyShortestPath(CompactGraph.from(강남_역삼_선릉), runnable -> {
+                });
+
+        Path path = pathAlgorithm.getPath(선릉, 강남);
+
+        assertAll(
+                () -> assertThat(pathAlgorithm.isPreprocessed()).isFalse(),
+                () -> assertThat(path.getStations()).containsExactly(선릉, 역삼, 강남)
+        );
+    }
+
+    @Test
+    @DisplayName("이어진 구간이 존재하지 않을 경우 예외가 발생한다.")
+    void getPath_no_such_path() {
+        Station 망원 = new Station(4L, "망원");
+        Map<Section, Fare> edges = Map.of(
+                new Section(강남, 역삼, Distance.fromMeter(5)), new Fare(0),
+                new Section(선릉, 망원, Distance.fromMeter(5)), new Fare(0)
+        );
+        PathAlgorithm pathAlgorithm = new ContractionHierarchyShortestPath(CompactGraph.from(edges), Runnable::run);
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> pathAlgorithm.getPath(역삼, 선릉))
+                .withMessageContaining("경로가 존재하지");
+    }
+
+    @Test
+    @DisplayName("임의의 노선도에서 다익스트라와 같은 거리의 경로를 구한다.")
+    void getPath_sameWithCompactShortestPath() {
+        Random random = new Random(5);
+        Station[] stations = new Station[201];
+        for (int id = 1; id <= 200; id++) {
+            stations[id] = new Station((long) id, "역" + id);
+        }
+        Map<Section, Fare> edges = new LinkedHashMap<>();
+        for (int id = 1; id < 200; id++) {
+            edges.put(new Section(stations[id], stations[id + 1], Distance.fromKilometer(1 + random.nextInt(9))),
+                    new Fare(100 * random.nextInt(5)));
+        }
+        for (int i = 0; i < 60; i++) {
+            Station up = stations[1 + random.nextInt(200)];
+            Station down = stations[1 + random.nextInt(200)];
+            if (!up.equals(down)) {
+                edges.put(new Section(up, down, Distance.fromKilometer(1 + random.nextInt(9))),
+                        new Fare(100 * random.nextInt(5)));
+            }
+        }
+        CompactGraph graph = CompactGraph.from(edges);
+        PathAlgorithm expected = new CompactShortestPath(graph);
+        PathAlgorithm actual = new ContractionHierarchyShortestPath(graph, Runnable::run);
+
+        for (int source = 1; source <= 200; source += 7) {
+            for (int target = 2; target <= 200; target += 11) {
+                if (source == target) {
+                    continue;
+                }
+                Path expectedPath = expected.getPath(stations[source], stations[target]);
+                Path actualPath = actual.getPath(stations[source], stations[target]);
+                List<Station> actualStations = actualPath.getStations();
+                assertAll(
+                        () -> assertThat(actualPath.getDistance()).isEqualTo(expectedPath.getDistance()),
+                        () -> assertThat(actualStations.get(0)).isEqualTo(stations[source]),
+                        () -> assertThat(actualStations.get(actualStations.size() - 1)).isEqualTo(stations[target])
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static wooteco.subway.domain.path.Fixture.강남;
+import static wooteco.subway.domain.path.Fixture.선릉;
+import static wooteco.subway.domain.path.Fixture.역삼;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
+import wooteco.subway.support.CompactGraph;
+import wooteco.subway.support.CompactShortestPath;
+import wooteco.subway.support.GraphSnapshotFile;
+
+class GraphSnapshotFileTest {
+    private final Map<Section, Fare> 강남_역삼_선릉 = Map.of(
+            new Section(1L, 강남, 역삼, Distance.fromMeter(10)), new Fare(100),
+            new Section(2L, 역삼, 선릉, Distance.fromMeter(10)), new Fare(200)
+    );
+
+    @TempDir
+    java.nio.file.Path directory;
+
+    @Test
+    @DisplayName("저장한 그래프 스냅샷 파일을 읽으면 같은 경로를 찾는다.")
+    void read() {
+        java.nio.file.Path file = directory.resolve("network.graph");
+        GraphSnapshotFile.write(file, CompactGraph.from(강남_역삼_선릉));
+
+        GraphSnapshotFile snapshotFile = GraphSnapshotFile.read(file);
+        Path path = new CompactShortestPath(snapshotFile.getGraph()).getPath(강남, 선릉);
+
+        assertAll(
+                () -> assertThat(snapshotFile.getFingerprint()).isEqualTo(GraphSnapshotFile.fingerprint(강남_역삼_선릉)),
+                () -> assertThat(path.getStations()).containsExactly(강남, 역삼, 선릉),
+                () -> assertThat(path.getStations().get(1).getName()).isEqualTo(역삼.getName()),
+                () -> assertThat(path.calculateFare(new Age(20))).isEqualTo(new Fare(1450))
+        );
+    }
+
+    @Test
+    @DisplayName("구간의 거리나 추가 요금이 다르면 지문이 달라진다.")
+    void fingerprint() {
+        Map<Section, Fare> reweighted = Map.of(
+                new Section(1L, 강남, 역삼, Distance.fromMeter(10)), new Fare(100),
+                new Section(2L, 역삼, 선릉, Distance.fromMeter(10)), new Fare(300)
+        );
+        Map<Section, Fare> reversed = Map.of(
+                new Section(1L, 역삼, 강남, Distance.fromMeter(10)), new Fare(100),
+                new Section(2L, 선릉, 역삼, Distance.fromMeter(10)), new Fare(200)
+        );
+
+        assertAll(
+                () -> assertThat(GraphSnapshotFile.fingerprint(reweighted))
+                        .isNotEqualTo(GraphSnapshotFile.fingerprint(강남_역삼_선릉)),
+                () -> assertThat(GraphSnapshotFile.fingerprint(reversed))
+                        .isEqualTo(GraphSnapshotFile.fingerprint(강남_역삼_선릉))
+        );
+    }
+
+    @Test
+    @DisplayName("손상된 그래프 스냅샷 파일은 읽지 않는다.")
+    void read_corrupted() throws IOException {
+        java.nio.file.Path file = directory.resolve("network.graph");
+        GraphSnapshotFile.write(file, CompactGraph.from(강남_역삼_선릉));
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(file, bytes);
+
+        assertThatThrownBy(() -> GraphSnapshotFile.read(file))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("그래프 스냅샷 파일이 손상되었습니다.");
+    }
+
+    @Test
+    @DisplayName("그래프 스냅샷 파일 저장에 실패하면 임시 파일을 남기지 않는다.")
+    void write_failed() throws IOException {
+        java.nio.file.Path file = directory.resolve("network.graph");
+        Files.createDirectories(file.resolve("occupied"));
+
+        assertThatThrownBy(() -> GraphSnapshotFile.write(file, CompactGraph.from(강남_역삼_선릉)))
+                .isInstanceOf(UncheckedIOException.class);
+        try (Stream<java.nio.file.Path> files = Files.list(directory)) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static wooteco.subway.domain.path.Fixture.강남;
+import static wooteco.subway.domain.path.Fixture.선릉;
+import static wooteco.subway.domain.path.Fixture.역삼;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.section.Distance;
+import wooteco.subway.domain.section.Section;
+
+class NetworkDeltaTest {
+    private static final Station 삼성 = new Station(4L, "삼성");
+
+    @Test
+    @DisplayName("새로운 id의 구간은 추가된 구간으로 구분한다.")
+    void between_added() {
+        Section 강남_역삼 = new Section(1L, 강남, 역삼, Distance.fromMeter(10));
+        Section 역삼_선릉 = new Section(2L, 역삼, 선릉, Distance.fromMeter(10));
+
+        NetworkDelta delta = NetworkDelta.between(List.of(강남_역삼), List.of(강남_역삼, 역삼_선릉), new Fare(100));
+
+        assertAll(
+                () -> assertThat(delta.getAddedSections()).containsOnlyKeys(역삼_선릉),
+                () -> assertThat(delta.getRemovedSections()).isEmpty(),
+                () -> assertThat(delta.getReweightedSections()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("같은 id의 구간의 역이 바뀌면 기존 구간을 제거하고 새 구간을 추가한다.")
+    void between_split() {
+        Section 강남_선릉 = new Section(1L, 강남, 선릉, Distance.fromMeter(20));
+        Section 강남_역삼 = new Section(1L, 강남, 역삼, Distance.fromMeter(10));
+        Section 역삼_선릉 = new Section(2L, 역삼, 선릉, Distance.fromMeter(10));
+
+        NetworkDelta delta = NetworkDelta.between(List.of(강남_선릉), List.of(강남_역삼, 역삼_선릉), new Fare(0));
+
+        assertAll(
+                () -> assertThat(delta.getRemovedSections()).containsExactly(강남_선릉),
+                () -> assertThat(delta.getAddedSections()).containsOnlyKeys(강남_역삼, 역삼_선릉),
+                () -> assertThat(delta.size()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 역을 잇는 구간의 거리만 바뀌면 가중치가 바뀐 구간으로 구분한다.")
+    void between_reweighted() {
+        Section before = new Section(1L, 강남, 역삼, Distance.fromMeter(10));
+        Section after = new Section(1L, 강남, 역삼, Distance.fromMeter(15));
+
+        NetworkDelta delta = NetworkDelta.between(List.of(before), List.of(after), new Fare(0));
+
+        assertAll(
+                () -> assertThat(delta.getReweightedSections()).containsOnlyKeys(after),
+                () -> assertThat(delta.getAddedSections()).isEmpty(),
+                () -> assertThat(delta.getRemovedSections()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("사라진 구간은 제거된 구간으로, 바뀌지 않은 구간은 변경에서 제외한다.")
+    void between_removed() {
+        Section 강남_역삼 = new Section(1L, 강남, 역삼, Distance.fromMeter(10));
+        Section 역삼_선릉 = new Section(2L, 역삼, 선릉, Distance.fromMeter(10));
+        Section 선릉_삼성 = new Section(3L, 선릉, 삼성, Distance.fromMeter(10));
+
+        NetworkDelta delta = NetworkDelta.between(List.of(강남_역삼, 역삼_선릉, 선릉_삼성),
+                List.of(강남_역삼, 역삼_선릉), new Fare(0));
+
+        assertAll(
+                () -> assertThat(delta.getRemovedSections()).containsExactly(선릉_삼성),
+                () -> assertThat(delta.size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("바뀐 구간이 없으면 빈 변경을 만든다.")
+    void between_empty() {
+        Section 강남_역삼 = new Section(1L, 강남, 역삼, Distance.fromMeter(10));
+
+        NetworkDelta delta = NetworkDelta.between(List.of(강남_역삼), List.of(강남_역삼), new Fare(0));
+
+        assertThat(delta.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,31 @@
+package wooteco.subway.domain.path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.section.Distance;
+
+class PathBudgetTest {
+
+    @Test
+    @DisplayName("거리 한도 이내의 경로만 허용한다.")
+    void ofDistance() {
+        PathBudget budget = PathBudget.ofDistance(Distance.fromKilometer(20));
+
+        assertThat(budget.allows(20, 900)).isTrue();
+        assertThat(budget.allows(20.1, 0)).isFalse();
+        assertThat(budget.isExhaustedBy(20.1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가 요금과 나이 할인을 반영한 요금이 한도 이내인 경로만 허용한다.")
+    void ofFare() {
+        PathBudget budget = PathBudget.ofFare(new Fare(1350), new Age(25));
+
+        assertThat(budget.allows(15, 0)).isTrue();
+        assertThat(budget.allows(10, 200)).isFalse();
+        assertThat(budget.isExhaustedBy(15)).isFalse();
+        assertThat(budget.isExhaustedBy(16)).isTrue();
+    }
+}
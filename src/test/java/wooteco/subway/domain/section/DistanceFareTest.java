@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.util.function.Function;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -15,10 +17,7 @@ public class DistanceFareTest {
     @ParameterizedTest(name = "{0}km일 때 요금은 {1}원이다")
     @MethodSource("provideDistanceAndFare")
     void calculate(double distance, int expected) {
-        Function<Double, Fare> fareCalculator = DistanceFare.fareCalculator();
-        Fare fare = fareCalculator.apply(distance);
-
-        assertThat(fare.getValue()).isEqualTo(expected);
+        assertThat(DistanceFare.calculateFare(distance)).isEqualTo(expected);
     }
 
     private static Stream<Arguments> provideDistanceAndFare() {
@@ -35,4 +34,17 @@ public class DistanceFareTest {
                 Arguments.of(59, 2250)
         );
     }
+
+    @DisplayName("0km부터 300km까지 1m 단위로 기존 계산과 같은 요금을 계산한다")
+    @Test
+    void calculateFare_sameAsFareCalculator() {
+        Function<Double, Fare> fareCalculator = DistanceFarePolicy.fareCalculator();
+
+        for (int meter = 0; meter <= 300_000; meter++) {
+            double distance = meter / 1000.0;
+            assertThat(DistanceFare.calculateFare(distance))
+                    .as("%fkm", distance)
+                    .isEqualTo(fareCalculator.apply(distance).getValue());
+        }
+    }
 }
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -145,4 +146,70 @@ public class SectionsTest {
                 .isThrownBy(() -> sections.delete(otherStation))
                 .withMessageContaining("존재하지 않습니다");
     }
+
+    @DisplayName("긴 노선의 구간을 차례로 분리해 추가해도 역 순서를 유지한다.")
+    @Test
+    void add_split_manySections() {
+        Station[] stations = createStations(100_000);
+        Sections longSections = new Sections(List.of(
+                new Section(stations[0], stations[stations.length - 1], Distance.fromKilometer(stations.length))));
+
+        for (int i = 1; i < stations.length - 1; i++) {
+            longSections.add(new Section(stations[i - 1], stations[i], Distance.fromKilometer(1)));
+        }
+
+        assertAll(
+                () -> assertThat(longSections.getSections()).hasSize(stations.length - 1),
+                () -> assertThat(longSections.getAllStations()).containsExactly(stations)
+        );
+    }
+
+    @DisplayName("노선 중간의 같은 자리에서 구간을 차례로 분리해 추가해도 역 순서를 유지한다.")
+    @Test
+    void add_split_middle_manySections() {
+        Station[] stations = createStations(100_002);
+        Station beforeLast = stations[stations.length - 2];
+        Sections longSections = new Sections(List.of(
+                new Section(stations[0], beforeLast, Distance.fromKilometer(stations.length)),
+                new Section(beforeLast, stations[stations.length - 1], Distance.fromKilometer(1))));
+
+        for (int i = 1; i < stations.length - 2; i++) {
+            longSections.add(new Section(stations[i - 1], stations[i], Distance.fromKilometer(1)));
+        }
+
+        assertAll(
+                () -> assertThat(longSections.getSections()).hasSize(stations.length - 1),
+                () -> assertThat(longSections.getAllStations()).containsExactly(stations)
+        );
+    }
+
+    @DisplayName("긴 노선의 중간역을 차례로 삭제해도 구간이 순서대로 합쳐진다.")
+    @Test
+    void delete_middle_manySections() {
+        Station[] stations = createStations(100_001);
+        List<Section> rawSections = new ArrayList<>();
+        for (int i = 1; i < stations.length; i++) {
+            rawSections.add(new Section(stations[i - 1], stations[i], Distance.fromKilometer(1)));
+        }
+        Sections longSections = new Sections(rawSections);
+
+        for (int i = 1; i < stations.length - 1; i += 2) {
+            longSections.delete(stations[i]);
+        }
+
+        List<Section> resultSections = longSections.getSections();
+        assertAll(
+                () -> assertThat(resultSections).hasSize(stations.length / 2),
+                () -> assertThat(resultSections).allMatch(section -> section.getDistance() == 2),
+                () -> assertThat(longSections.getAllStations().get(1)).isEqualTo(stations[2])
+        );
+    }
+
+    private Station[] createStations(int count) {
+        Station[] stations = new Station[count];
+        for (int i = 0; i < count; i++) {
+            stations[i] = new Station((long) i + 1, "역" + i);
+        }
+        return stations;
+    }
 }
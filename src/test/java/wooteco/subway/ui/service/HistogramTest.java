@@ -0,0 +1,64 @@
+package wooteco.subway.ui.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HistogramTest {
+
+    @Test
+    @DisplayName("기록한 값은 자신을 포함하는 구간에 속하며 구간의 상대 오차는 2% 이내이다.")
+    void indexOf() {
+        Random random = new Random(0);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong() >>> (1 + random.nextInt(63));
+            int index = Histogram.indexOf(value);
+            long highest = Histogram.highestValueOf(index);
+            long lowest = index == 0 ? 0 : Histogram.highestValueOf(index - 1) + 1;
+
+            assertThat(value).isBetween(lowest, highest);
+            assertThat((double) (highest - lowest)).isLessThanOrEqualTo(Math.max(lowest, 1) * 0.02);
+        }
+    }
+
+    @Test
+    @DisplayName("백분위 값은 정렬한 기록값과 2% 이내로 일치한다.")
+    void getValueAtPercentile() {
+        Histogram histogram = new Histogram();
+        Random random = new Random(0);
+        long[] values = new long[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_000 + random.nextInt(10_000_000);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        Histogram.Snapshot snapshot = histogram.snapshot();
+
+        assertAll(
+                () -> assertThat(snapshot.getCount()).isEqualTo(values.length),
+                () -> assertThat((double) snapshot.getValueAtPercentile(50))
+                        .isCloseTo(values[4_999], within(values[4_999] * 0.02)),
+                () -> assertThat((double) snapshot.getValueAtPercentile(99))
+                        .isCloseTo(values[9_899], within(values[9_899] * 0.02)),
+                () -> assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(values[values.length - 1]),
+                () -> assertThat(snapshot.getMax()).isEqualTo(values[values.length - 1])
+        );
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 모든 값이 0이다.")
+    void snapshot_empty() {
+        Histogram.Snapshot snapshot = new Histogram().snapshot();
+
+        assertAll(
+                () -> assertThat(snapshot.getCount()).isZero(),
+                () -> assertThat(snapshot.getMean()).isZero(),
+                () -> assertThat(snapshot.getValueAtPercentile(99)).isZero()
+        );
+    }
+}
@@ -0,0 +1,169 @@
+package wooteco.subway.ui.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import wooteco.subway.domain.Station;
+import wooteco.subway.domain.path.Fare;
+import wooteco.subway.domain.path.Path;
+import wooteco.subway.domain.path.RouteMode;
+import wooteco.subway.domain.section.Distance;
+
+class PathCacheTest {
+    private final Path path = new Path(
+            List.of(new Station(1L, "강남"), new Station(2L, "역삼")), Distance.fromKilometer(1), new Fare(0));
+
+    @Test
+    @DisplayName("같은 출발역과 도착역의 경로는 캐시에서 꺼낸다.")
+    void get_hit() {
+        PathCache pathCache = new PathCache(10, Duration.ZERO);
+
+        pathCache.get(1, RouteMode.DISTANCE, 1L, 2L, () -> path);
+        Path cached = pathCache.get(1, RouteMode.DISTANCE, 1L, 2L, () -> null);
+
+        assertAll(
+                () -> assertThat(cached).isSameAs(path),
+                () -> assertThat(pathCache.getHitCount()).isEqualTo(1),
+                () -> assertThat(pathCache.getMissCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("노선도 버전이 다르면 캐시된 경로를 사용하지 않는다.")
+    void get_otherVersion() {
+        PathCache pathCache = new PathCache(10, Duration.ZERO);
+
+        pathCache.get(1, RouteMode.DISTANCE, 1L, 2L, () -> path);
+        Path cached = pathCache.get(2, RouteMode.DISTANCE, 1L, 2L, () -> null);
+
+        assertThat(cached).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 경로를 제거한다.")
+    void get_evict() {
+        PathCache pathCache = new PathCache(2, Duration.ZERO);
+
+        pathCache.get(1, RouteMode.DISTANCE, 1L, 2L, () -> path);
+        pathCache.get(1, RouteMode.DISTANCE, 1L, 3L, () -> path);
+        pathCache.get(1, RouteMode.DISTANCE, 1L, 2L, () -> path);
+        pathCache.get(1, RouteMode.DISTANCE, 1L, 4L, () -> path);
+
+        assertAll(
+                () -> assertThat(pathCache.size()).isEqualTo(2),
+                () -> assertThat(pathCache.getEvictionCount()).isEqualTo(1),
+                () -> assertThat(pathCache.get(1, RouteMode.DISTANCE, 1L, 2L, () -> null)).isSameAs(path),
+                () -> assertThat(pathCache.get(1, RouteMode.DISTANCE, 1L, 3L, () -> null)).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("구역을 나누어 보관해도 전체 경로 수는 최대 크기를 넘지 않는다.")
+    void get_evict_segments() {
+        int maximumSize = 1000;
+        PathCache pathCache = new PathCache(maximumSize, Duration.ZERO);
+
+        for (long target = 2; target < 5002; target++) {
+            pathCache.get(1, RouteMode.DISTANCE, 1L, target, () -> path);
+        }
+
+        assertAll(
+                () -> assertThat(pathCache.size()).isLessThanOrEqualTo(maximumSize),
+                () -> assertThat(pathCache.getEvictionCount()).isEqualTo(5000 - pathCache.size()),
+                () -> assertThat(pathCache.get(1, RouteMode.DISTANCE, 1L, 5001L, () -> null)).isSameAs(path)
+        );
+    }
+
+    @Test
+    @DisplayName("노선도가 변경되면 캐시를 비운다.")
+    void onNetworkChanged() {
+        PathCache pathCache = new PathCache(10, Duration.ZERO);
+        pathCache.get(1, RouteMode.DISTANCE, 1L, 2L, () -> path);
+
+        pathCache.onNetworkChanged(new NetworkChangedEvent());
+
+        assertThat(pathCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 경로를 동시에 조회하면 한 번만 계산하고 결과를 함께 사용한다.")
+    void get_coalesce() throws Exception {
+        PathCache pathCache = new PathCache(0, Duration.ZERO);
+        int callerCount = 8;
+        AtomicInteger loadCount = new AtomicInteger();
+        Supplier<Path> loader = () -> {
+            loadCount.incrementAndGet();
+            awaitCoalesced(pathCache, callerCount - 1);
+            return path;
+        };
+
+        List<Path> paths = getConcurrently(callerCount, () -> pathCache.get(1, RouteMode.DISTANCE, 1L, 2L, loader));
+
+        assertAll(
+                () -> assertThat(paths).hasSize(callerCount).allMatch(found -> found == path),
+                () -> assertThat(loadCount.get()).isEqualTo(1),
+                () -> assertThat(pathCache.getLoadCount()).isEqualTo(1),
+                () -> assertThat(pathCache.getCoalescedCount()).isEqualTo(callerCount - 1)
+        );
+    }
+
+    @Test
+    @DisplayName("함께 기다리던 조회는 계산 중 발생한 예외를 그대로 받는다.")
+    void get_coalesce_exception() throws Exception {
+        PathCache pathCache = new PathCache(10, Duration.ZERO);
+        Supplier<Path> loader = () -> {
+            awaitCoalesced(pathCache, 1);
+            throw new IllegalStateException("해당하는 경로가 존재하지 않습니다.");
+        };
+
+        Callable<Path> call = () -> pathCache.get(1, RouteMode.DISTANCE, 1L, 2L, loader);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Path>> futures = executor.invokeAll(List.of(call, call));
+
+            for (Future<Path> future : futures) {
+                assertThatThrownBy(future::get)
+                        .hasCauseInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("해당하는 경로가 존재하지 않습니다.");
+            }
+            assertThat(pathCache.size()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Path> getConcurrently(int callerCount, Callable<Path> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(callerCount);
+        try {
+            List<Path> paths = new ArrayList<>();
+            for (Future<Path> future : executor.invokeAll(Collections.nCopies(callerCount, call))) {
+                paths.add(future.get());
+            }
+            return paths;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void awaitCoalesced(PathCache pathCache, int count) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pathCache.getCoalescedCount() < count && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}